@@ -0,0 +1,119 @@
+package com.lopezcampos.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.model.Course;
+import com.lopezcampos.model.Evaluation;
+import com.lopezcampos.model.Matriculation;
+import com.lopezcampos.model.Schedule;
+import com.lopezcampos.model.Student;
+import com.lopezcampos.model.Teacher;
+
+/**
+ * In-memory rows shaped like production data, with every relation the response mapping walks already populated.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static <T> List<T> list(LongFunction<T> factory, int size) {
+        List<T> rows = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            rows.add(factory.apply(id));
+        }
+        return rows;
+    }
+
+    static Student student(long id) {
+        return Student.builder()
+                .idStudent(id)
+                .name("Student " + id)
+                .surname("Surname " + id)
+                .dni(String.format("%08d", id))
+                .email("student" + id + "@educateapp.edu")
+                .phone("999" + id)
+                .address("Av. Universitaria " + id)
+                .birthDate(LocalDate.of(2000, 1, 1).plusDays(id % 3650))
+                .enrollmentDate(LocalDate.of(2022, 3, 1))
+                .status("ACTIVE")
+                .build();
+    }
+
+    static Teacher teacher(long id) {
+        return Teacher.builder()
+                .idTeacher(id)
+                .name("Teacher " + id)
+                .surname("Surname " + id)
+                .dni(String.format("T%07d", id))
+                .email("teacher" + id + "@educateapp.edu")
+                .phone("988" + id)
+                .specialty("Mathematics")
+                .status("ACTIVE")
+                .build();
+    }
+
+    static Course course(long id) {
+        return Course.builder()
+                .idCourse(id)
+                .name("Course " + id)
+                .code("C" + id)
+                .credits(4)
+                .semester((int) (id % 10) + 1)
+                .teacher(teacher(id))
+                .build();
+    }
+
+    static Schedule schedule(long id) {
+        return Schedule.builder()
+                .idSchedule(id)
+                .dayOfWeek("MONDAY")
+                .startTime(LocalTime.of(8, 0))
+                .endTime(LocalTime.of(10, 0))
+                .classroom("A-" + id)
+                .course(course(id))
+                .build();
+    }
+
+    static Matriculation matriculation(long id) {
+        return Matriculation.builder()
+                .idMatriculation(id)
+                .academicPeriod("2024-1")
+                .matriculationDate(LocalDate.of(2024, 3, 1))
+                .matriculationStatus("ACTIVE")
+                .student(student(id))
+                .course(course(id))
+                .build();
+    }
+
+    static Evaluation evaluation(long id) {
+        return Evaluation.builder()
+                .idEvaluation(id)
+                .typeEvaluation("EXAM")
+                .date(LocalDate.of(2024, 5, 15))
+                .grade(BigDecimal.valueOf(1000 + id % 1000, 2))
+                .matriculation(matriculation(id))
+                .build();
+    }
+
+    static StudentResponseDto studentResponse(long id) {
+        return StudentResponseDto.builder()
+                .idStudent(id)
+                .name("Student " + id)
+                .surname("Surname " + id)
+                .dni(String.format("%08d", id))
+                .email("student" + id + "@educateapp.edu")
+                .phone("999" + id)
+                .address("Av. Universitaria " + id)
+                .birthDate(LocalDate.of(2000, 1, 1).plusDays(id % 3650))
+                .enrollmentDate(LocalDate.of(2022, 3, 1))
+                .status("ACTIVE")
+                .build();
+    }
+}
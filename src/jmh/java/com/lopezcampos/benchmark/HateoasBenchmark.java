@@ -0,0 +1,87 @@
+package com.lopezcampos.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+import com.lopezcampos.controller.StudentController;
+import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+
+/**
+ * Link building cost of HateoasHelper for one item and for whole collections, against the former
+ * per-link linkTo/methodOn resolution. With accept=application/json the page goes out link-free.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HateoasBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param({"application/hal+json", "application/json"})
+    public String accept;
+
+    private List<StudentResponseDto> students;
+    private CursorPageResponseDto<StudentResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        students = Fixtures.list(Fixtures::studentResponse, size);
+        page = CursorPageResponseDto.<StudentResponseDto>builder()
+                .content(students)
+                .nextCursor("YToxMDA")
+                .size(size)
+                .build();
+        RequestContext.bind("/api/students", accept);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContext.clear();
+    }
+
+    @Benchmark
+    public EntityModel<StudentResponseDto> toModel() {
+        return HateoasHelper.toModel(students.get(0), StudentResponseDto::getIdStudent, StudentController.class,
+                "self", "create", "update", "delete");
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<StudentResponseDto>> toCollectionModel() {
+        return HateoasHelper.toCollectionModel(students, StudentResponseDto::getIdStudent, StudentController.class,
+                "self", "create", "update", "delete");
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<StudentResponseDto>> legacyToCollectionModel() {
+        return LegacyHateoas.toCollectionModel(students, StudentResponseDto::getIdStudent, StudentController.class,
+                "self", "create", "update", "delete");
+    }
+
+    // What GET /api/students builds: HAL links, or nothing at all for plain JSON
+    @Benchmark
+    public CollectionModel<EntityModel<StudentResponseDto>> toPageModel() {
+        return HateoasHelper.toCollectionModel(page, StudentResponseDto::getIdStudent, StudentController.class,
+                "self", "create", "update", "delete");
+    }
+}
@@ -0,0 +1,77 @@
+package com.lopezcampos.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Makes the embedded database answer like a remote MySQL: every statement execution parks for a fixed
+ * round-trip time while its connection stays checked out. Off until {@link #enable(long)}, so seeding is fast.
+ */
+final class JdbcLatency implements BeanPostProcessor {
+
+    private static volatile long latencyNanos;
+
+    static void enable(long millis) {
+        latencyNanos = millis * 1_000_000;
+    }
+
+    static void disable() {
+        latencyNanos = 0;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return result instanceof Statement statement ? statement(statement) : result;
+        });
+    }
+
+    // PreparedStatement and CallableStatement extend Statement; keep the most specific interface
+    private static Statement statement(Statement statement) {
+        Class<?>[] interfaces = {statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class};
+        return (Statement) Proxy.newProxyInstance(JdbcLatency.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && latencyNanos > 0) {
+                        LockSupport.parkNanos(latencyNanos);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcLatency.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.lopezcampos.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lopezcampos.controller.StudentController;
+import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.dto.response.StudentResponseDto;
+
+/**
+ * HAL serialization of the GET /api/students body, against the same rows as a plain JSON array, with DTO
+ * properties read by reflection (Jackson's default) or through Blackbird's generated accessors (the application's).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    @Param({"reflection", "blackbird"})
+    public String accessors;
+
+    private ObjectMapper halMapper;
+    private ObjectMapper plainMapper;
+    private List<StudentResponseDto> students;
+    private CollectionModel<EntityModel<StudentResponseDto>> model;
+
+    @Setup
+    public void setUp() {
+        plainMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("blackbird".equals(accessors)) {
+            plainMapper.registerModule(new BlackbirdModule());
+        }
+        halMapper = plainMapper.copy().registerModule(new Jackson2HalModule());
+        halMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        students = Fixtures.list(Fixtures::studentResponse, size);
+        RequestContext.bind("/api/students");
+        try {
+            model = HateoasHelper.toCollectionModel(students, StudentResponseDto::getIdStudent,
+                    StudentController.class, "self", "create", "update", "delete");
+        } finally {
+            RequestContext.clear();
+        }
+    }
+
+    @Benchmark
+    public byte[] halCollection() throws JsonProcessingException {
+        return halMapper.writeValueAsBytes(model);
+    }
+
+    @Benchmark
+    public byte[] plainList() throws JsonProcessingException {
+        return plainMapper.writeValueAsBytes(students);
+    }
+}
@@ -0,0 +1,111 @@
+package com.lopezcampos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.hateoas.EntityModel;
+
+import com.lopezcampos.config.LayerMetrics;
+import com.lopezcampos.config.LayerMetricsConfig;
+import com.lopezcampos.controller.StudentController;
+import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.mapper.StudentMapper;
+import com.lopezcampos.mapper.StudentMapperImpl;
+import com.lopezcampos.model.Student;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Fixed cost the layer timers add to one call, on the cheapest calls they wrap: a generated mapping
+ * through the same proxy the application context builds, and one HAL item model. "off" is the bare
+ * mapper and HateoasHelper with no registry behind the global one, i.e. no-op timers.
+ *
+ * mvn -Pbenchmark -DskipTests verify -Djmh.args="LayerMetrics -f 1"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LayerMetricsBenchmark {
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    private PrometheusMeterRegistry registry;
+    private StudentMapper mapper;
+    private Student student;
+    private StudentResponseDto response;
+
+    @Setup
+    public void setUp() {
+        student = Fixtures.student(1);
+        response = Fixtures.studentResponse(1);
+        mapper = new StudentMapperImpl();
+        if ("on".equals(metrics)) {
+            registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            // management.metrics.distribution.percentiles-histogram.educateapp=true
+            registry.config().meterFilter(new MeterFilter() {
+                @Override
+                public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                    return id.getName().startsWith("educateapp")
+                            ? DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config)
+                            : config;
+                }
+            });
+            Metrics.addRegistry(registry);
+            DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+            beans.registerSingleton("registry", registry);
+            ProxyFactory proxy = new ProxyFactory(mapper);
+            proxy.setProxyTargetClass(true);
+            proxy.addAdvisor(LayerMetricsConfig.mapperTimingAdvisor(beans.getBeanProvider(MeterRegistry.class)));
+            mapper = (StudentMapper) proxy.getProxy();
+        }
+        RequestContext.bind("/api/students", "application/hal+json");
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContext.clear();
+        if (registry != null) {
+            Metrics.removeRegistry(registry);
+            // Proof the timers were live, not optimized away
+            registry.find(LayerMetrics.MAPPER).timers().forEach(timer ->
+                    System.out.printf("%n%s: %d calls recorded%n", LayerMetrics.MAPPER, timer.count()));
+            registry.find(LayerMetrics.LINKS).timers().forEach(timer ->
+                    System.out.printf("%n%s: %d calls recorded%n", LayerMetrics.LINKS, timer.count()));
+        }
+    }
+
+    @Benchmark
+    public StudentResponseDto mapRow() {
+        return mapper.toResponse(student);
+    }
+
+    @Benchmark
+    public EntityModel<StudentResponseDto> itemLinks() {
+        return HateoasHelper.toModel(response, StudentResponseDto::getIdStudent, StudentController.class,
+                "self", "create", "update", "delete");
+    }
+}
@@ -0,0 +1,43 @@
+package com.lopezcampos.benchmark;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+/**
+ * The per-item link building HateoasHelper used before link templates, kept as the benchmark baseline.
+ */
+final class LegacyHateoas {
+
+    private LegacyHateoas() {
+    }
+
+    static <T> EntityModel<T> toModel(T item, Function<T, Long> idExtractor, Class<?> controllerClass,
+                                      String getByIdRel, String createRel, String updateRel, String deleteRel) {
+        Long id = idExtractor.apply(item);
+        EntityModel<T> model = EntityModel.of(item,
+                linkTo(methodOn(controllerClass).getClass()).slash(id).withRel(getByIdRel),
+                linkTo(methodOn(controllerClass).getClass()).withRel("all"));
+        model.add(linkTo(controllerClass).slash(id).withRel(getByIdRel));
+        model.add(linkTo(controllerClass).withRel("all"));
+        model.add(linkTo(controllerClass).withRel(createRel));
+        model.add(linkTo(controllerClass).slash(id).withRel(updateRel));
+        model.add(linkTo(controllerClass).slash(id).withRel(deleteRel));
+        return model;
+    }
+
+    static <T> CollectionModel<EntityModel<T>> toCollectionModel(List<T> list, Function<T, Long> idExtractor,
+            Class<?> controllerClass, String getByIdRel, String createRel, String updateRel, String deleteRel) {
+        List<EntityModel<T>> models = list.stream()
+                .map(item -> toModel(item, idExtractor, controllerClass, getByIdRel, createRel, updateRel, deleteRel))
+                .toList();
+        return CollectionModel.of(models,
+                linkTo(methodOn(controllerClass).getClass()).withSelfRel(),
+                linkTo(methodOn(controllerClass).getClass()).withRel(createRel));
+    }
+}
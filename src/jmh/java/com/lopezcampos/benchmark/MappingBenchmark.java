@@ -0,0 +1,102 @@
+package com.lopezcampos.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.dto.response.MatriculationResponseDto;
+import com.lopezcampos.dto.response.ScheduleResponseDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.mapper.CourseMapperImpl;
+import com.lopezcampos.mapper.EntityMapper;
+import com.lopezcampos.mapper.EvaluationMapperImpl;
+import com.lopezcampos.mapper.MatriculationMapperImpl;
+import com.lopezcampos.mapper.ScheduleMapperImpl;
+import com.lopezcampos.mapper.StudentMapperImpl;
+import com.lopezcampos.mapper.TeacherMapperImpl;
+
+/**
+ * Entity → ResponseDto, one row and a 100-row page, generated mappers against the
+ * ModelMapper baseline the services used before. The Evaluation case is the old
+ * EvaluationServiceImpl.buildResponse path (matriculation → student / course).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"Student", "Teacher", "Course", "Schedule", "Matriculation", "Evaluation"})
+    public String entity;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private EntityMapper<Object, Object, Object> generated;
+    private Class<?> responseClass;
+    private Object row;
+    private List<Object> page;
+
+    @Setup
+    public void setUp() {
+        switch (entity) {
+            case "Student" -> bind(Fixtures::student, new StudentMapperImpl(), StudentResponseDto.class);
+            case "Teacher" -> bind(Fixtures::teacher, new TeacherMapperImpl(), TeacherResponseDto.class);
+            case "Course" -> bind(Fixtures::course, new CourseMapperImpl(), CourseResponseDto.class);
+            case "Schedule" -> bind(Fixtures::schedule, new ScheduleMapperImpl(), ScheduleResponseDto.class);
+            case "Matriculation" -> bind(Fixtures::matriculation, new MatriculationMapperImpl(), MatriculationResponseDto.class);
+            case "Evaluation" -> bind(Fixtures::evaluation, new EvaluationMapperImpl(), EvaluationResponseDto.class);
+            default -> throw new IllegalArgumentException(entity);
+        }
+    }
+
+    @Benchmark
+    public Object modelMapperRow() {
+        return modelMapper.map(row, responseClass);
+    }
+
+    @Benchmark
+    public Object generatedRow() {
+        return generated.toResponse(row);
+    }
+
+    @Benchmark
+    public List<?> modelMapperPage() {
+        return page.stream()
+                .map(item -> modelMapper.map(item, responseClass))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<?> generatedPage() {
+        return generated.toResponseList(page);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bind(LongFunction<?> factory, EntityMapper<?, ?, ?> mapper, Class<?> responseClass) {
+        this.generated = (EntityMapper<Object, Object, Object>) mapper;
+        this.responseClass = responseClass;
+        this.row = factory.apply(1);
+        this.page = Fixtures.list(id -> (Object) factory.apply(id), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,102 @@
+package com.lopezcampos.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.lopezcampos.EducateappBackendApplication;
+import com.lopezcampos.model.Student;
+import com.lopezcampos.repository.StudentRepository;
+
+/**
+ * Cost of the metrics per request: the whole application on an embedded H2 with HAL responses, so the
+ * service, mapper, link, repository, Hibernate and HTTP meters all record. "off" disables every meter,
+ * Hibernate statistics and the layer aspect. No JDBC latency is added, which makes the relative cost
+ * an upper bound of what a request against a real database sees.
+ *
+ * mvn -Pbenchmark -DskipTests verify -Djmh.args="MetricsOverhead -f 1"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private static final int STUDENTS = 1_000;
+
+    @Param({"off", "on"})
+    public String metrics;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        boolean on = "on".equals(metrics);
+        context = new SpringApplicationBuilder(EducateappBackendApplication.class)
+                .run("--server.port=0",
+                        "--educateapp.metrics.layers.enabled=" + on,
+                        "--management.metrics.enable.all=" + on,
+                        "--management.metrics.distribution.percentiles-histogram.http.server.requests=true",
+                        "--spring.jpa.properties.hibernate.generate_statistics=" + on,
+                        "--logging.level.root=WARN");
+
+        List<Student> students = Fixtures.list(Fixtures::student, STUDENTS);
+        students.forEach(student -> student.setIdStudent(null));
+        context.getBean(StudentRepository.class).saveAll(students);
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/students";
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        return get(baseUrl + "/" + (1 + ThreadLocalRandom.current().nextInt(STUDENTS)));
+    }
+
+    @Benchmark
+    public int getPage() throws IOException, InterruptedException {
+        return get(baseUrl + "?size=20");
+    }
+
+    private int get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", "application/hal+json")
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + url);
+        }
+        return response.statusCode();
+    }
+}
@@ -0,0 +1,33 @@
+package com.lopezcampos.benchmark;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Binds a fake current request so link builders resolve hosts the same way they do inside a controller.
+ */
+final class RequestContext {
+
+    private RequestContext() {
+    }
+
+    static void bind(String path) {
+        bind(path, null);
+    }
+
+    static void bind(String path, String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        request.setScheme("http");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void clear() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
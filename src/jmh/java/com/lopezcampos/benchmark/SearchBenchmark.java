@@ -0,0 +1,112 @@
+package com.lopezcampos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.SearchIndexStatsDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.service.search.SearchDocument;
+import com.lopezcampos.service.search.SearchIndex;
+
+/**
+ * Search latency over a synthetic population: {@code students} students plus 1% teachers and 0.5% courses,
+ * names drawn from a few thousand syllable combinations so common names have long posting lists.
+ * Setup prints the index statistics and the measured heap growth, to check the estimate against.
+ *
+ * mvn -Pbenchmark -DskipTests verify -Djmh.args="Search -f 1"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ma", "ri", "an", "to", "lu", "ca", "jo", "se", "pa", "bla", "el", "na", "ga", "ro", "mi", "guel",
+        "san", "chez", "lo", "pez", "mar", "tin", "gon", "za", "lez", "fer", "nan", "dez", "ra", "mon"
+    };
+
+    @Param({"500000"})
+    public int students;
+
+    @Param({"ma", "garcia", "maria lopez", "mariq", "student4242"})
+    public String query;
+
+    private SearchIndex index;
+
+    @Setup
+    public void setUp() {
+        long heapBefore = usedHeap();
+        index = new SearchIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        List<SearchDocument> batch = new ArrayList<>(10_000);
+        for (int i = 1; i <= students; i++) {
+            batch.add(SearchDocument.ofStudent(StudentResponseDto.builder()
+                    .idStudent((long) i).name(i % 10 == 0 ? "Maria" : word(random))
+                    .surname((i % 7 == 0 ? "Garcia" : word(random)) + " " + (i % 11 == 0 ? "Lopez" : word(random)))
+                    .dni(String.format("%08dX", i)).email("student" + i + "@uni.test")
+                    .build()));
+            if (i % 100 == 0) {
+                batch.add(SearchDocument.ofTeacher(TeacherResponseDto.builder()
+                        .idTeacher((long) i / 100).name(word(random)).surname(word(random)).specialty(word(random))
+                        .build()));
+            }
+            if (i % 200 == 0) {
+                batch.add(SearchDocument.ofCourse(CourseResponseDto.builder()
+                        .idCourse((long) i / 200).name(word(random) + " " + word(random)).code("C-" + i / 200)
+                        .build()));
+            }
+            if (batch.size() >= 10_000) {
+                index.putAll(batch);
+                batch.clear();
+            }
+        }
+        index.putAll(batch);
+
+        SearchIndexStatsDto stats = index.stats();
+        System.out.printf("%n%d documents, %d terms, %d postings, %d fuzzy keys: ~%d MB estimated, %d MB measured%n",
+                stats.getDocuments(), stats.getTerms(), stats.getPostings(), stats.getFuzzyKeys(),
+                stats.getEstimatedBytes() >> 20, (usedHeap() - heapBefore) >> 20);
+    }
+
+    @Benchmark
+    public Object search() {
+        return index.search(query, null, 10);
+    }
+
+    private static String word(SplittableRandom random) {
+        int length = 2 + random.nextInt(2);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
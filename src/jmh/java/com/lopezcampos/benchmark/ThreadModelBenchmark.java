@@ -0,0 +1,129 @@
+package com.lopezcampos.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.lopezcampos.EducateappBackendApplication;
+import com.lopezcampos.config.VirtualThreadPinningMonitor;
+import com.lopezcampos.model.Student;
+import com.lopezcampos.repository.StudentRepository;
+
+/**
+ * Platform vs virtual request threads under the same load: the whole application on an embedded H2,
+ * with every JDBC statement delayed by {@code dbLatencyMs} to stand in for the MySQL round trip.
+ * Each invocation is a burst of {@code concurrency} simultaneous requests against the real controllers,
+ * so requests per second = score x concurrency. Hikari gets the same pool size in both modes.
+ *
+ * mvn -Pbenchmark -DskipTests verify -Djmh.args="ThreadModel -f 1"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+
+    private static final int STUDENTS = 1_000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"400"})
+    public int concurrency;
+
+    @Param({"5"})
+    public long dbLatencyMs;
+
+    @Param({"50"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EducateappBackendApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new JdbcLatency()))
+                .run("--server.port=0",
+                        "--spring.profiles.active=" + ("virtual".equals(threads) ? "virtual" : "default"),
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "--spring.datasource.hikari.connection-timeout=30000",
+                        "--logging.level.root=WARN");
+
+        List<Student> students = Fixtures.list(Fixtures::student, STUDENTS);
+        students.forEach(student -> student.setIdStudent(null));
+        context.getBean(StudentRepository.class).saveAll(students);
+        JdbcLatency.enable(dbLatencyMs);
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/students";
+        // The load generator itself must never be the bottleneck, whatever the server mode
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().executor(clientExecutor).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        JdbcLatency.disable();
+        context.getBeanProvider(VirtualThreadPinningMonitor.class).ifAvailable(monitor ->
+                System.out.println("Pinned virtual thread events: " + monitor.getPinnedCount()));
+        context.close();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int getById() {
+        return burst(() -> baseUrl + "/" + (1 + ThreadLocalRandom.current().nextInt(STUDENTS)));
+    }
+
+    @Benchmark
+    public int getPage() {
+        return burst(() -> baseUrl + "?size=20");
+    }
+
+    private int burst(Supplier<String> url) {
+        CompletableFuture<?>[] requests = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url.get()))
+                    .header("Accept", "application/json")
+                    .build();
+            requests[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + request.uri());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(requests).join();
+        return concurrency;
+    }
+}
@@ -0,0 +1,92 @@
+package com.lopezcampos.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.mapper.EvaluationMapperImpl;
+
+/**
+ * The link-free GET /api/evaluations page a batch consumer pulls, encoded as JSON, CBOR and Smile, as is
+ * and gzipped the way the server compresses it. Bytes on the wire are printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private CursorPageResponseDto<EvaluationResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> throw new IllegalArgumentException(format);
+        };
+        // Same features and modules as the application's mappers
+        mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new BlackbirdModule())
+                .build();
+        page = CursorPageResponseDto.<EvaluationResponseDto>builder()
+                .content(new EvaluationMapperImpl().toResponseList(Fixtures.list(Fixtures::evaluation, size)))
+                .nextCursor("eyJpZCI6MTAwfQ")
+                .size(size)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(page));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        byte[] body = encode();
+        System.out.printf("%n%s, %d rows: %d bytes, %d gzipped%n", format, size, body.length, gzip(body).length);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,37 @@
+package com.lopezcampos.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String COURSES = "courses";
+  public static final String TEACHERS = "teachers";
+  public static final String COURSE_STATISTICS = "courseStatistics";
+
+  // Bounded by size and TTL; recordStats feeds /api/cache/stats. Transaction-aware: inside a transaction,
+  // puts and evictions (@CachePut, @CacheEvict or direct) wait for the commit and are dropped on rollback
+  @Bean
+  public CaffeineCacheManager cacheManager(
+      @Value("${educateapp.cache.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+      @Override
+      protected Cache createCaffeineCache(String name) {
+        return new TransactionAwareCacheDecorator(super.createCaffeineCache(name));
+      }
+    };
+    cacheManager.setCacheSpecification(spec);
+    cacheManager.setAllowNullValues(false);
+    cacheManager.setCacheNames(List.of(COURSES, TEACHERS, COURSE_STATISTICS));
+    return cacheManager;
+  }
+}
@@ -0,0 +1,22 @@
+package com.lopezcampos.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Spring Boot registers every Module bean on its ObjectMapper, and Spring HATEOAS copies that mapper for
+ * HAL, so both representations get it. LocalDate and LocalTime keep the JavaTimeModule ISO defaults, which
+ * write through shared, static formatters: nothing is allocated per value beyond the string itself.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // DTO getters and setters are called through LambdaMetafactory-generated functions instead of Method.invoke
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,110 @@
+package com.lopezcampos.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the serializers of every response DTO, alone and in the wrappers the controllers return, and the
+ * deserializers of every request DTO, before the web server takes requests. Jackson builds them lazily and
+ * caches them per mapper, so otherwise the first requests pay for introspection and accessor generation.
+ * The HAL representations are written by copies of the application mapper, and CBOR and Smile by mappers
+ * of their own, so those are warmed as well.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JacksonWarmup implements SmartInitializingSingleton {
+
+    static final String REQUEST_DTOS = "com.lopezcampos.dto.request";
+    static final String RESPONSE_DTOS = "com.lopezcampos.dto.response";
+
+    private final ObjectMapper objectMapper;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        List<Class<?>> requests = dtoClasses(REQUEST_DTOS);
+        List<Class<?>> responses = dtoClasses(RESPONSE_DTOS);
+
+        Set<ObjectMapper> mappers = Collections.newSetFromMap(new IdentityHashMap<>());
+        mappers.add(objectMapper);
+        mappers.addAll(halMappers());
+        mappers.addAll(binaryMappers());
+
+        for (ObjectMapper mapper : mappers) {
+            // readerFor and writerFor fill the mapper's shared caches; the reader and writer themselves are dropped
+            requests.forEach(mapper::readerFor);
+            TypeFactory types = mapper.getTypeFactory();
+            for (Class<?> response : responses) {
+                JavaType dto = types.constructType(response);
+                JavaType model = types.constructParametricType(EntityModel.class, dto);
+                mapper.writerFor(dto);
+                mapper.writerFor(model);
+                mapper.writerFor(types.constructParametricType(CollectionModel.class, model));
+                mapper.writerFor(types.constructParametricType(CursorPageResponseDto.class, dto));
+                mapper.writerFor(types.constructCollectionType(List.class, dto));
+            }
+        }
+        log.info("Resolved JSON (de)serializers of {} request and {} response DTOs for {} mappers in {} ms",
+                requests.size(), responses.size(), mappers.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Spring HATEOAS registers a configured copy of the application mapper per hypermedia type on the JSON
+    // converter; a RepresentationModel is written by the copy for the negotiated media type
+    List<ObjectMapper> halMappers() {
+        List<ObjectMapper> mappers = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : handlerAdapter.getMessageConverters()) {
+            if (converter instanceof AbstractJackson2HttpMessageConverter jackson
+                    && jackson.getObjectMapper() == objectMapper) {
+                mappers.addAll(jackson.getObjectMappersForType(RepresentationModel.class).values());
+            }
+        }
+        return mappers;
+    }
+
+    // CBOR and Smile converters (BinaryFormatConfig) have mappers, and caches, of their own
+    List<ObjectMapper> binaryMappers() {
+        return handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        || converter instanceof MappingJackson2SmileHttpMessageConverter)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .toList();
+    }
+
+    static List<Class<?>> dtoClasses(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        // Top-level classes only, not their Lombok builders
+        scanner.addIncludeFilter((reader, factory) -> !reader.getClassMetadata().hasEnclosingClass());
+        List<Class<?>> classes = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            classes.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), JacksonWarmup.class.getClassLoader()));
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,72 @@
+package com.lopezcampos.config;
+
+import java.util.Locale;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Names and tags of the per-layer timers. Every timer is tagged with the entity it belongs to,
+ * derived from the class name: StudentServiceImpl, StudentMapperImpl and StudentController all give "student".
+ */
+public final class LayerMetrics {
+
+    public static final String SERVICE = "educateapp.service";
+    public static final String MAPPER = "educateapp.mapper";
+    public static final String LINKS = "educateapp.links";
+
+    private static final String[] SUFFIXES = {"ServiceImpl", "MapperImpl", "Controller"};
+
+    private static final ClassValue<String> ENTITY = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getSimpleName();
+            for (String suffix : SUFFIXES) {
+                if (name.endsWith(suffix) && name.length() > suffix.length()) {
+                    name = name.substring(0, name.length() - suffix.length());
+                    break;
+                }
+            }
+            return name.toLowerCase(Locale.ROOT);
+        }
+    };
+
+    // Link timers live in the global registry: HateoasHelper is static and the actuator registry is added to it
+    private static final ClassValue<Timer[]> LINK_TIMERS = new ClassValue<>() {
+        @Override
+        protected Timer[] computeValue(Class<?> controllerClass) {
+            return new Timer[] {linkTimer(controllerClass, "model"), linkTimer(controllerClass, "collection")};
+        }
+    };
+
+    private LayerMetrics() {
+    }
+
+    public static String entity(Class<?> type) {
+        return ENTITY.get(type);
+    }
+
+    public static Timer timer(MeterRegistry registry, String name, String entity, String operation, String outcome) {
+        return Timer.builder(name)
+                .tag("entity", entity)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    public static Timer modelLinks(Class<?> controllerClass) {
+        return LINK_TIMERS.get(controllerClass)[0];
+    }
+
+    public static Timer collectionLinks(Class<?> controllerClass) {
+        return LINK_TIMERS.get(controllerClass)[1];
+    }
+
+    private static Timer linkTimer(Class<?> controllerClass, String operation) {
+        return Timer.builder(LINKS)
+                .tag("entity", entity(controllerClass))
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry);
+    }
+}
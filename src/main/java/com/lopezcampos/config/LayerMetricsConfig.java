@@ -0,0 +1,104 @@
+package com.lopezcampos.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call that crosses into a CRUD service or a generated mapper, tagged by entity, operation
+ * (the method name) and outcome. Calls a bean makes on itself are not proxied and stay inside the caller's time.
+ * A plain interceptor rather than an @Aspect: no join point is built per call, so a timed call costs
+ * the proxy hop, two clock reads and one histogram update (see LayerMetricsBenchmark).
+ */
+@Configuration
+@ConditionalOnProperty(name = "educateapp.metrics.layers.enabled", havingValue = "true", matchIfMissing = true)
+public class LayerMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        return advisor("execution(public * com.lopezcampos.service.interface_.CrudService+.*(..))",
+                new LayerTimingInterceptor(registry, LayerMetrics.SERVICE));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor mapperTimingAdvisor(ObjectProvider<MeterRegistry> registry) {
+        return advisor("execution(public * com.lopezcampos.mapper.EntityMapper+.*(..))",
+                new LayerTimingInterceptor(registry, LayerMetrics.MAPPER));
+    }
+
+    private static Advisor advisor(String expression, MethodInterceptor interceptor) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(expression);
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    /**
+     * Advisors are created before the registry is configured, so the registry is only looked up on the
+     * first call. Success timers are resolved once per class and method; failures take the registry lookup.
+     */
+    public static final class LayerTimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> registryProvider;
+        private final String name;
+        private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+        private volatile MeterRegistry registry;
+
+        public LayerTimingInterceptor(ObjectProvider<MeterRegistry> registryProvider, String name) {
+            this.registryProvider = registryProvider;
+            this.name = name;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                success(invocation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable ex) {
+                timer(invocation, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw ex;
+            }
+        }
+
+        // The method is the declared one (AbstractCrudService.getPage for every service), hence the class level
+        private Timer success(MethodInvocation invocation) {
+            Map<Method, Timer> byMethod = timers.get(invocation.getThis().getClass());
+            Timer timer = byMethod != null ? byMethod.get(invocation.getMethod()) : null;
+            if (timer == null) {
+                timer = timer(invocation, "success");
+                timers.computeIfAbsent(invocation.getThis().getClass(), type -> new ConcurrentHashMap<>())
+                        .put(invocation.getMethod(), timer);
+            }
+            return timer;
+        }
+
+        private Timer timer(MethodInvocation invocation, String outcome) {
+            MeterRegistry meters = registry;
+            if (meters == null) {
+                meters = registryProvider.getObject();
+                registry = meters;
+            }
+            return LayerMetrics.timer(meters, name, LayerMetrics.entity(invocation.getThis().getClass()),
+                    invocation.getMethod().getName(), outcome);
+        }
+    }
+}
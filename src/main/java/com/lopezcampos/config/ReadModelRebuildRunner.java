@@ -0,0 +1,40 @@
+package com.lopezcampos.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.lopezcampos.dto.response.SummaryRebuildResponseDto;
+import com.lopezcampos.service.impl.CourseStatisticsServiceImpl;
+import com.lopezcampos.service.impl.StudentSummaryServiceImpl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-off backfill of the read models at startup:
+ * java -jar educateapp-backend.jar --rebuild-student-summaries --rebuild-course-statistics
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadModelRebuildRunner implements ApplicationRunner {
+
+    static final String STUDENT_SUMMARIES = "rebuild-student-summaries";
+    static final String COURSE_STATISTICS = "rebuild-course-statistics";
+
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(STUDENT_SUMMARIES)) {
+            SummaryRebuildResponseDto result = summaryService.rebuild();
+            log.info("Rebuilt {} student summaries in {} ms", result.getSummaries(), result.getElapsedMillis());
+        }
+        if (args.containsOption(COURSE_STATISTICS)) {
+            SummaryRebuildResponseDto result = statisticsService.rebuild();
+            log.info("Rebuilt {} course grade counts in {} ms", result.getSummaries(), result.getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lopezcampos.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write split, on only when educateapp.datasource.replicas lists replica URLs. Read-only transactions
+ * (service reads, exports, summaries, and Spring Data's own read methods) run on a replica; everything else,
+ * including Flyway, stays on the primary. The lazy proxy holds the physical connection back until the first
+ * statement, by which time the transaction has marked it read-only and the replica pool can be picked.
+ * Needs spring.jpa.open-in-view=false, so a connection isn't carried from one transaction to the next.
+ * Nothing a replica returns is cached: reads that fill a cache run read-write, and read-only sessions
+ * bypass Hibernate's caches (ReplicaReadCacheMode).
+ */
+@Configuration
+@ConditionalOnProperty(name = "educateapp.datasource.replicas")
+public class ReadReplicaConfig {
+
+    // The pool Spring Boot would have built from spring.datasource.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Replicas share the primary's credentials and pool settings; a replica that is down at startup doesn't stop it
+    @Bean(destroyMethod = "close")
+    public ReadReplicaDataSource readReplicaDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${educateapp.datasource.replicas}") List<String> urls,
+            @Value("${educateapp.datasource.replica-lag-query:}") String lagQuery,
+            @Value("${educateapp.datasource.replica-max-lag:5s}") Duration maxLag,
+            @Value("${educateapp.datasource.replica-check-interval:5s}") Duration checkInterval,
+            ObjectProvider<MeterRegistry> registry) {
+        MeterRegistry meters = registry.getIfAvailable();
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("replica-" + (i + 1));
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            if (meters != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meters));
+            }
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReadReplicaDataSource(primaryDataSource, replicas, lagQuery, maxLag, checkInterval, meters);
+    }
+
+    // Picked up by Boot's transaction manager customizer
+    @Bean
+    public ReplicaReadCacheMode replicaReadCacheMode(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new ReplicaReadCacheMode(entityManagerFactory);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+}
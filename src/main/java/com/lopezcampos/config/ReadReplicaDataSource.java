@@ -0,0 +1,185 @@
+package com.lopezcampos.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connections for read-only transactions, handed out round-robin by the replicas that passed their last
+ * health check. A replica is healthy when a connection validates and, with a lag query set, it is at most
+ * maxLag behind the primary. With no healthy replica, or one that fails to hand out a connection, the
+ * read goes to the primary.
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // SHOW REPLICA STATUS (MySQL 8.0.22+) returns many columns; any other lag query returns seconds first
+    private static final String SECONDS_BEHIND = "Seconds_Behind_Source";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+    private final ScheduledExecutorService checker;
+
+    public ReadReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, String lagQuery,
+                                 Duration maxLag, Duration checkInterval, MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.fallbacks = registry == null ? null : Counter.builder("educateapp.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(registry);
+        if (registry != null) {
+            this.replicas.forEach(replica -> Gauge.builder("educateapp.datasource.replica.healthy",
+                            replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(registry));
+        }
+
+        // First check before any read is routed, then on a fixed delay so a slow check never piles up
+        checkReplicas();
+        this.checker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("replica-health").daemon(true).factory());
+        long interval = checkInterval.toMillis();
+        checker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(username, password);
+    }
+
+    public synchronized void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private Connection connection(String username, String password) throws SQLException {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return username == null ? replica.dataSource.getConnection()
+                        : replica.dataSource.getConnection(username, password);
+            } catch (SQLException ex) {
+                replica.down("no connection: " + ex.getMessage());
+            }
+        }
+        if (fallbacks != null) {
+            fallbacks.increment();
+        }
+        return username == null ? primary.getConnection() : primary.getConnection(username, password);
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                replica.down("connection not valid");
+                return;
+            }
+            if (lagQuery != null) {
+                Long lag = lagSeconds(connection);
+                if (lag == null) {
+                    replica.down("not replicating");
+                    return;
+                }
+                if (lag > maxLagSeconds) {
+                    replica.down(lag + "s behind the primary");
+                    return;
+                }
+            }
+            replica.up();
+        } catch (SQLException | RuntimeException ex) {
+            replica.down(ex.getMessage());
+        }
+    }
+
+    private Long lagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(lagQuery)) {
+            if (!rows.next()) {
+                return null;
+            }
+            long lag = rows.getLong(lagColumn(rows.getMetaData()));
+            return rows.wasNull() ? null : lag;
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData columns) throws SQLException {
+        for (int i = 1; i <= columns.getColumnCount(); i++) {
+            if (SECONDS_BEHIND.equalsIgnoreCase(columns.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean checked;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        // Logged on transitions only; a replica that stays down doesn't flood the log every interval
+        private void down(String reason) {
+            if (healthy || !checked) {
+                log.warn("Read replica {} out of rotation: {}", name(), reason);
+            }
+            healthy = false;
+            checked = true;
+        }
+
+        private void up() {
+            if (!healthy) {
+                log.info("Read replica {} in rotation", name());
+            }
+            healthy = true;
+            checked = true;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lopezcampos.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Read-only transactions run on a replica, which may be behind the primary by up to max-lag. Their sessions
+ * bypass the second-level and query caches: a row read just after a write and before it replicates would
+ * otherwise be served from the cache until it expires, instead of for the replica lag. Those caches are
+ * filled by read-write transactions, on the primary. IGNORE rather than GET, since Hibernate still stores
+ * a query cache miss under GET.
+ */
+public class ReplicaReadCacheMode implements TransactionExecutionListener {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public ReplicaReadCacheMode(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction() || !transaction.isReadOnly()) {
+            return;
+        }
+        EntityManager entityManager =
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory.getObject());
+        if (entityManager != null) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.lopezcampos.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache for the read-mostly entities, on Caffeine through JCache. Every region is
+ * created here with the configured size and TTL, and Hibernate fails at startup on a region it doesn't find.
+ * Regions are READ_WRITE: Hibernate updates or evicts them when the transaction that changed the row
+ * commits, and the query cache is invalidated per table by the update timestamps.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String COURSE = "course";
+    public static final String TEACHER = "teacher";
+    public static final String SCHEDULE = "schedule";
+    public static final String COURSE_SCHEDULES = "course.schedules";
+
+    // One manager per application context: test contexts in the same JVM must not share regions
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${educateapp.l2cache.maximum-size:10000}") long maximumSize,
+            @Value("${educateapp.l2cache.time-to-live:10m}") Duration timeToLive) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : new String[] {COURSE, TEACHER, SCHEDULE, COURSE_SCHEDULES,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            cacheManager.createCache(region, region(OptionalLong.of(maximumSize), OptionalLong.of(timeToLive.toNanos())));
+        }
+        // One entry per table; if one expired first, cached query results would look fresher than they are
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                region(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            // Course.schedules is the inverse side: a schedule saved or deleted on its own must evict it too
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+
+    // Hibernate caches immutable disassembled state, so entries are kept by reference rather than copied
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maximumSize, OptionalLong expireAfterWrite) {
+        return new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(maximumSize)
+                .setExpireAfterWrite(expireAfterWrite)
+                .setStatisticsEnabled(true);
+    }
+}
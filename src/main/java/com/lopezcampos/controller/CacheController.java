@@ -0,0 +1,50 @@
+package com.lopezcampos.controller;
+
+import java.util.List;
+
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.lopezcampos.dto.response.CacheStatsResponseDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CaffeineCacheManager cacheManager;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get hit/miss/eviction stats of the reference caches")
+    public ResponseEntity<List<CacheStatsResponseDto>> getStats() {
+        return ResponseEntity.ok(cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::toStats)
+                .toList());
+    }
+
+    private CacheStatsResponseDto toStats(String name) {
+        // The manager hands out transaction-aware decorators; the native cache is the Caffeine one underneath
+        @SuppressWarnings("unchecked")
+        Cache<Object, Object> cache = (Cache<Object, Object>) cacheManager.getCache(name).getNativeCache();
+        CacheStats stats = cache.stats();
+        return CacheStatsResponseDto.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -1,19 +1,29 @@
 package com.lopezcampos.controller;
 
+import com.lopezcampos.controller.interface_.ETags;
 import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.CourseStatisticsResponseDto;
+import com.lopezcampos.dto.response.SummaryRebuildResponseDto;
 import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.CourseStatisticsServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/courses")
@@ -22,41 +32,73 @@ import org.springframework.web.bind.annotation.*;
 public class CourseController {
 
     private final CourseServiceImpl courseService;
+    private final CourseStatisticsServiceImpl courseStatisticsService;
+    private final Validator validator;
 
     @GetMapping
     @Operation(summary = "Get all courses")
-    public ResponseEntity<CollectionModel<EntityModel<CourseResponseDto>>> getAll() {
-        return ResponseEntity.ok(
-            HateoasHelper.toCollectionModel(
-                courseService.getAll(),
-                CourseResponseDto::getIdCourse,
-                CourseController.class,
-                "self",       
-                "create",     
-                "update",    
-                "delete"      
-            )
-        );
+    public ResponseEntity<CollectionModel<EntityModel<CourseResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<CourseResponseDto> page = courseService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
+                        CourseResponseDto::getIdCourse,
+                        CourseController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
     @Operation(summary = "Get course by ID")
-    public ResponseEntity<EntityModel<CourseResponseDto>> getById(@PathVariable Long id) {
-        CourseResponseDto course = courseService.getById(id);
-        return ResponseEntity.ok(
-            HateoasHelper.toModel(
-                course,
+    public ResponseEntity<EntityModel<CourseResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<CourseResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> courseService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<CourseResponseDto> course = courseService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(course.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(course.body(),
+                        CourseResponseDto::getIdCourse,
+                        CourseController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
+    }
+
+    // Natural-key lookup for integrations; conditional GETs stay on /{id}
+    @GetMapping("/code/{code}")
+    @Operation(summary = "Get course by code")
+    public ResponseEntity<EntityModel<CourseResponseDto>> getByCode(@PathVariable String code) {
+        return ResponseEntity.ok(HateoasHelper.toModel(courseService.getByCode(code),
                 CourseResponseDto::getIdCourse,
                 CourseController.class,
-                "self",       
-                "create",     
-                "update",     
-                "delete"     
-            )
-        );
+                "self",
+                "create",
+                "update",
+                "delete"
+                ));
     }
 
-
     @PostMapping
     @Operation(summary = "Create a new course")
     public ResponseEntity<CourseResponseDto> create(@Valid @RequestBody CourseRequestDto dto) {
@@ -65,8 +107,35 @@ public class CourseController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing course")
-    public ResponseEntity<CourseResponseDto> update(@PathVariable Long id, @Valid @RequestBody CourseRequestDto dto) {
-        return ResponseEntity.ok(courseService.update(id, dto));
+    public ResponseEntity<CourseResponseDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody CourseRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(courseService.update(id, dto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update course")
+    public ResponseEntity<CourseResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody CourseRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(courseService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
+    }
+
+    @GetMapping("/{id}/statistics")
+    @Operation(summary = "Grade statistics and histogram of a course, overall and per evaluation type")
+    public ResponseEntity<CourseStatisticsResponseDto> getStatistics(
+            @PathVariable Long id,
+            @RequestParam(required = false) String academicPeriod) {
+        return ResponseEntity.ok(courseStatisticsService.getStatistics(id, academicPeriod));
+    }
+
+    @PostMapping("/statistics/rebuild")
+    @Operation(summary = "Recompute every course's grade counts from evaluations (backfill)")
+    public ResponseEntity<SummaryRebuildResponseDto> rebuildStatistics() {
+        return ResponseEntity.ok(courseStatisticsService.rebuild());
     }
 
     @DeleteMapping("/{id}")
@@ -2,20 +2,28 @@ package com.lopezcampos.controller;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.lopezcampos.controller.interface_.ETags;
 import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.service.export.ExportFormat;
 import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
-
 @RestController
 @RequestMapping("/api/evaluations")
 @Tag(name = "Evaluations")
@@ -23,36 +31,68 @@ import lombok.RequiredArgsConstructor;
 public class EvaluationController {
 
     private final EvaluationServiceImpl evaluationService;
+    private final Validator validator;
 
     @GetMapping
     @Operation(summary = "Get all evaluations")
-    public ResponseEntity<CollectionModel<EntityModel<EvaluationResponseDto>>> getAll() {
-        return ResponseEntity.ok(
-                HateoasHelper.toCollectionModel(evaluationService.getAll(),
-                    EvaluationResponseDto::getIdEvaluation,
-                    EvaluationController.class,
-                    "self",
-                    "create",
-                    "update",
-                    "detelete"
-                )
-        );
+    public ResponseEntity<CollectionModel<EntityModel<EvaluationResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<EvaluationResponseDto> page = evaluationService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
+                        EvaluationResponseDto::getIdEvaluation,
+                        EvaluationController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream evaluations as NDJSON or CSV, optionally filtered by academic period")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String academicPeriod,
+            @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment("evaluations"))
+                .body(out -> evaluationService.export(academicPeriod, exportFormat, out));
     }
 
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
     @Operation(summary = "Get evaluation by ID")
-    public ResponseEntity<EntityModel<EvaluationResponseDto>> getById(@PathVariable Long id) {
-        EvaluationResponseDto evaluation = evaluationService.getById(id);
-        return ResponseEntity.ok(
-                HateoasHelper.toModel(evaluation,
-                    EvaluationResponseDto::getIdEvaluation,
-                    EvaluationController.class,
-                    "self",       
-                    "create",     
-                    "update",     
-                    "delete"  
-                )
-        );
+    public ResponseEntity<EntityModel<EvaluationResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<EvaluationResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> evaluationService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<EvaluationResponseDto> evaluation = evaluationService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(evaluation.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(evaluation.body(),
+                        EvaluationResponseDto::getIdEvaluation,
+                        EvaluationController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
     @PostMapping
@@ -65,9 +105,19 @@ public class EvaluationController {
     @Operation(summary = "Update evaluation")
     public ResponseEntity<EvaluationResponseDto> update(
             @PathVariable Long id,
-            @Valid @RequestBody EvaluationRequestDto requestDto
-    ) {
-        return ResponseEntity.ok(evaluationService.update(id, requestDto));
+            @Valid @RequestBody EvaluationRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(evaluationService.update(id, requestDto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update evaluation")
+    public ResponseEntity<EvaluationResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody EvaluationRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(evaluationService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -2,25 +2,37 @@ package com.lopezcampos.controller;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.lopezcampos.controller.interface_.ETags;
 import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.MatriculationResponseDto;
+import com.lopezcampos.service.export.ExportFormat;
 import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -30,36 +42,68 @@ import lombok.RequiredArgsConstructor;
 public class MatriculationController {
 
     private final MatriculationServiceImpl matriculationService;
+    private final Validator validator;
 
     @GetMapping
     @Operation(summary = "Get all matriculations")
-    public ResponseEntity<CollectionModel<EntityModel<MatriculationResponseDto>>> getAll() {
-        return ResponseEntity.ok(
-                HateoasHelper.toCollectionModel(matriculationService.getAll(),
+    public ResponseEntity<CollectionModel<EntityModel<MatriculationResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<MatriculationResponseDto> page = matriculationService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
                         MatriculationResponseDto::getIdMatriculation,
                         MatriculationController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Stream matriculations as NDJSON or CSV, optionally filtered by academic period")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String academicPeriod,
+            @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment("matriculations"))
+                .body(out -> matriculationService.export(academicPeriod, exportFormat, out));
+    }
+
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
-    @Operation(summary = "Get course by ID")
-    public ResponseEntity<EntityModel<MatriculationResponseDto>> getById(@PathVariable Long id) {
-        MatriculationResponseDto matriculation = matriculationService.getById(id);
-        return ResponseEntity.ok(
-                HateoasHelper.toModel(matriculation,
+    @Operation(summary = "Get matriculation by ID")
+    public ResponseEntity<EntityModel<MatriculationResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<MatriculationResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> matriculationService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<MatriculationResponseDto> matriculation = matriculationService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(matriculation.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(matriculation.body(),
                         MatriculationResponseDto::getIdMatriculation,
-                        CourseController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        MatriculationController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
     @PostMapping
@@ -70,8 +114,21 @@ public class MatriculationController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update matriculation")
-    public ResponseEntity<MatriculationResponseDto> update(@PathVariable Long id, @Valid @RequestBody MatriculationRequestDto dto) {
-        return ResponseEntity.ok(matriculationService.update(id, dto));
+    public ResponseEntity<MatriculationResponseDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody MatriculationRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(matriculationService.update(id, dto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update matriculation")
+    public ResponseEntity<MatriculationResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody MatriculationRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(matriculationService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
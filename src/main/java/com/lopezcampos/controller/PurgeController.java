@@ -0,0 +1,36 @@
+package com.lopezcampos.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lopezcampos.dto.response.PurgeStatusResponseDto;
+import com.lopezcampos.service.impl.PurgeServiceImpl;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/purge")
+@Tag(name = "Purge")
+@RequiredArgsConstructor
+public class PurgeController {
+
+    private final PurgeServiceImpl purgeService;
+
+    @GetMapping
+    @Operation(summary = "Get the progress of the background purge and the deleted rows still waiting for it")
+    public ResponseEntity<PurgeStatusResponseDto> getStatus() {
+        return ResponseEntity.ok(purgeService.getStatus());
+    }
+
+    @PostMapping
+    @Operation(summary = "Queue a purge of deleted rows now instead of waiting for the next interval")
+    public ResponseEntity<PurgeStatusResponseDto> purge() {
+        purgeService.requestPurge();
+        return ResponseEntity.accepted().body(purgeService.getStatus());
+    }
+}
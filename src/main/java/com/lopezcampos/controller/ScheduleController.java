@@ -1,31 +1,38 @@
 package com.lopezcampos.controller;
 
-import java.util.List;
-
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.lopezcampos.controller.interface_.ETags;
+import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.ScheduleResponseDto;
 import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
-
 @RestController
 @RequestMapping("/api/schedules")
 @Tag(name = "Schedules")
@@ -33,27 +40,56 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 public class ScheduleController {
 
     private final ScheduleServiceImpl scheduleService;
-    // como se manejaba antes Hateoas, solo getters
+    private final Validator validator;
+
     @GetMapping
     @Operation(summary = "Get all schedules")
-    public ResponseEntity<CollectionModel<EntityModel<ScheduleResponseDto>>> getAll() {
-        List<EntityModel<ScheduleResponseDto>> schedules = scheduleService.getAll().stream()
-                .map(t -> EntityModel.of(t,
-                        linkTo(methodOn(ScheduleController.class).getById(t.getIdSchedule())).withSelfRel(),
-                        linkTo(methodOn(ScheduleController.class).getAll()).withRel("schedules")))
-                .toList();
-
-        return ResponseEntity.ok(CollectionModel.of(schedules,
-                linkTo(methodOn(ScheduleController.class).getAll()).withSelfRel()));
+    public ResponseEntity<CollectionModel<EntityModel<ScheduleResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<ScheduleResponseDto> page = scheduleService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
+                        ScheduleResponseDto::getIdSchedule,
+                        ScheduleController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
     @Operation(summary = "Get schedule by ID")
-    public ResponseEntity<EntityModel<ScheduleResponseDto>> getById(@PathVariable Long id) {
-        ScheduleResponseDto item = scheduleService.getById(id);
-        return ResponseEntity.ok(EntityModel.of(item,
-                linkTo(methodOn(EvaluationController.class).getById(id)).withSelfRel(),
-                linkTo(methodOn(EvaluationController.class).getAll()).withRel("matriculations")));
+    public ResponseEntity<EntityModel<ScheduleResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<ScheduleResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> scheduleService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<ScheduleResponseDto> schedule = scheduleService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(schedule.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(schedule.body(),
+                        ScheduleResponseDto::getIdSchedule,
+                        ScheduleController.class,
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
     @PostMapping
@@ -64,8 +100,21 @@ public class ScheduleController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update schedule")
-    public ResponseEntity<ScheduleResponseDto> update(@PathVariable Long id, @Valid @RequestBody ScheduleRequestDto dto) {
-        return ResponseEntity.ok(scheduleService.update(id, dto));
+    public ResponseEntity<ScheduleResponseDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody ScheduleRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(scheduleService.update(id, dto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update schedule")
+    public ResponseEntity<ScheduleResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody ScheduleRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(scheduleService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,40 @@
+package com.lopezcampos.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lopezcampos.dto.response.SearchIndexStatsDto;
+import com.lopezcampos.dto.response.SearchResponseDto;
+import com.lopezcampos.service.impl.SearchServiceImpl;
+import com.lopezcampos.service.search.SearchType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchServiceImpl searchService;
+
+    @GetMapping
+    @Operation(summary = "Search-as-you-type over students, teachers and courses, best matches first")
+    public ResponseEntity<SearchResponseDto> search(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(q, SearchType.from(type), limit));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get the size and approximate memory footprint of the search index")
+    public ResponseEntity<SearchIndexStatsDto> getStats() {
+        return ResponseEntity.ok(searchService.stats());
+    }
+}
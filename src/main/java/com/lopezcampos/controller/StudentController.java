@@ -1,26 +1,46 @@
 package com.lopezcampos.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.lopezcampos.controller.interface_.ETags;
 import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.response.ImportReportDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.dto.response.StudentSummaryResponseDto;
+import com.lopezcampos.dto.response.SummaryRebuildResponseDto;
+import com.lopezcampos.service.export.ExportFormat;
+import com.lopezcampos.service.impl.StudentImportServiceImpl;
 import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.StudentSummaryServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -30,47 +50,142 @@ import lombok.RequiredArgsConstructor;
 public class StudentController {
 
     private final StudentServiceImpl studentService;
+    private final StudentImportServiceImpl studentImportService;
+    private final StudentSummaryServiceImpl studentSummaryService;
+    private final Validator validator;
 
     @GetMapping
     @Operation(summary = "Get all students")
-    public ResponseEntity<CollectionModel<EntityModel<StudentResponseDto>>> getAll() {
-        return ResponseEntity.ok(
-                HateoasHelper.toCollectionModel(studentService.getAll(),
+    public ResponseEntity<CollectionModel<EntityModel<StudentResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<StudentResponseDto> page = studentService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
                         StudentResponseDto::getIdStudent,
                         StudentController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream students as NDJSON or CSV, optionally filtered by academic period")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String academicPeriod,
+            @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, exportFormat.attachment("students"))
+                .body(out -> studentService.export(academicPeriod, exportFormat, out));
     }
 
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
     @Operation(summary = "Get student by ID")
-    public ResponseEntity<EntityModel<StudentResponseDto>> getById(@PathVariable Long id) {
-        StudentResponseDto student = studentService.getById(id);
-        return ResponseEntity.ok(
-                HateoasHelper.toModel(student,
+    public ResponseEntity<EntityModel<StudentResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<StudentResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> studentService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<StudentResponseDto> student = studentService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(student.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(student.body(),
                         StudentResponseDto::getIdStudent,
                         StudentController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
+    }
+
+    // Natural-key lookup for integrations; conditional GETs stay on /{id}
+    @GetMapping("/dni/{dni}")
+    @Operation(summary = "Get student by dni")
+    public ResponseEntity<EntityModel<StudentResponseDto>> getByDni(@PathVariable String dni) {
+        return ResponseEntity.ok(HateoasHelper.toModel(studentService.getByDni(dni),
+                StudentResponseDto::getIdStudent,
+                StudentController.class,
+                "self",
+                "create",
+                "update",
+                "delete"
+                ));
+    }
+
+    @GetMapping("/email/{email}")
+    @Operation(summary = "Get student by email")
+    public ResponseEntity<EntityModel<StudentResponseDto>> getByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(HateoasHelper.toModel(studentService.getByEmail(email),
+                StudentResponseDto::getIdStudent,
+                StudentController.class,
+                "self",
+                "create",
+                "update",
+                "delete"
+                ));
     }
+
     @PostMapping
     @Operation(summary = "Create a new student")
     public ResponseEntity<StudentResponseDto> create(@Valid @RequestBody StudentRequestDto dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(studentService.create(dto));
     }
 
+    @PostMapping("/import")
+    @Operation(summary = "Bulk import students from an NDJSON or CSV body, reporting rejected rows")
+    public ResponseEntity<ImportReportDto> importStudents(
+            @RequestParam(required = false) String format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(studentImportService.importStudents(body, ExportFormat.from(format)));
+    }
+
+    @GetMapping("/{id}/summary")
+    @Operation(summary = "Get a student's credits, evaluation counts and weighted average per academic period")
+    public ResponseEntity<StudentSummaryResponseDto> getSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(studentSummaryService.getSummary(id));
+    }
+
+    @PostMapping("/summary/rebuild")
+    @Operation(summary = "Recompute every student summary from matriculations and evaluations (backfill)")
+    public ResponseEntity<SummaryRebuildResponseDto> rebuildSummaries() {
+        return ResponseEntity.ok(studentSummaryService.rebuild());
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update student")
-    public ResponseEntity<StudentResponseDto> update(@PathVariable Long id, @Valid @RequestBody StudentRequestDto dto) {
-        return ResponseEntity.ok(studentService.update(id, dto));
+    public ResponseEntity<StudentResponseDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody StudentRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(studentService.update(id, dto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update student")
+    public ResponseEntity<StudentResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody StudentRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(studentService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -2,25 +2,35 @@ package com.lopezcampos.controller;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.lopezcampos.controller.interface_.ETags;
 import com.lopezcampos.controller.interface_.HateoasHelper;
+import com.lopezcampos.controller.interface_.PatchRequests;
 import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.dto.response.TeacherResponseDto;
 import com.lopezcampos.service.impl.TeacherServiceImpl;
+import com.lopezcampos.service.interface_.Tagged;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -30,36 +40,83 @@ import lombok.RequiredArgsConstructor;
 public class TeacherController {
 
     private final TeacherServiceImpl teacherService;
+    private final Validator validator;
 
     @GetMapping
     @Operation(summary = "Get all teachers")
-    public ResponseEntity<CollectionModel<EntityModel<TeacherResponseDto>>> getAll() {
-        return ResponseEntity.ok(
-                HateoasHelper.toCollectionModel(teacherService.getAll(),
+    public ResponseEntity<CollectionModel<EntityModel<TeacherResponseDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        CursorPageResponseDto<TeacherResponseDto> page = teacherService.getPage(cursor, size);
+        String etag = ETags.forPage(page);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toCollectionModel(page,
                         TeacherResponseDto::getIdTeacher,
                         TeacherController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
     }
 
+    // 304 is answered from the version tag alone: no row load, mapping or serialization. A 200 carries the
+    // tag read with its body, so a write between the probe and the load can't pair a new body with an old tag
     @GetMapping("/{id}")
     @Operation(summary = "Get teacher by ID")
-    public ResponseEntity<EntityModel<TeacherResponseDto>> getById(@PathVariable Long id) {
-        TeacherResponseDto teacher = teacherService.getById(id);
-        return ResponseEntity.ok(
-                HateoasHelper.toModel(teacher,
+    public ResponseEntity<EntityModel<TeacherResponseDto>> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<EntityModel<TeacherResponseDto>> notModified =
+                ETags.notModified(ifNoneMatch, () -> teacherService.getVersionTag(id));
+        if (notModified != null) {
+            return notModified;
+        }
+        Tagged<TeacherResponseDto> teacher = teacherService.getTagged(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.forVersion(teacher.versionTag()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(HateoasHelper.toModel(teacher.body(),
                         TeacherResponseDto::getIdTeacher,
                         TeacherController.class,
-                        "self",       
-                        "create",     
-                        "update",     
-                        "delete"  
-                        )
-        );
+                        "self",
+                        "create",
+                        "update",
+                        "delete"
+                        ));
+    }
+
+    // Natural-key lookup for integrations; conditional GETs stay on /{id}
+    @GetMapping("/dni/{dni}")
+    @Operation(summary = "Get teacher by dni")
+    public ResponseEntity<EntityModel<TeacherResponseDto>> getByDni(@PathVariable String dni) {
+        return ResponseEntity.ok(HateoasHelper.toModel(teacherService.getByDni(dni),
+                TeacherResponseDto::getIdTeacher,
+                TeacherController.class,
+                "self",
+                "create",
+                "update",
+                "delete"
+                ));
+    }
+
+    @GetMapping("/email/{email}")
+    @Operation(summary = "Get teacher by email")
+    public ResponseEntity<EntityModel<TeacherResponseDto>> getByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(HateoasHelper.toModel(teacherService.getByEmail(email),
+                TeacherResponseDto::getIdTeacher,
+                TeacherController.class,
+                "self",
+                "create",
+                "update",
+                "delete"
+                ));
     }
 
     @PostMapping
@@ -70,8 +127,21 @@ public class TeacherController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update teacher")
-    public ResponseEntity<TeacherResponseDto> update(@PathVariable Long id, @Valid @RequestBody TeacherRequestDto dto) {
-        return ResponseEntity.ok(teacherService.update(id, dto));
+    public ResponseEntity<TeacherResponseDto> update(
+            @PathVariable Long id,
+            @Valid @RequestBody TeacherRequestDto dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(teacherService.update(id, dto, ETags.expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update teacher")
+    public ResponseEntity<TeacherResponseDto> patch(
+            @PathVariable Long id,
+            @RequestBody TeacherRequestDto changes,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(teacherService.patch(id, PatchRequests.validated(validator, changes),
+                ETags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,25 @@
+package com.lopezcampos.controller.interface_;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+
+/**
+ * Link-free stand-in for a collection: carries the cursor page untouched so
+ * LinkFreeResponseAdvice can write it as plain JSON.
+ */
+public class CursorPageModel<T> extends CollectionModel<EntityModel<T>> {
+
+    private final CursorPageResponseDto<T> page;
+
+    CursorPageModel(CursorPageResponseDto<T> page) {
+        this.page = page;
+    }
+
+    @JsonIgnore
+    public CursorPageResponseDto<T> getPage() {
+        return page;
+    }
+}
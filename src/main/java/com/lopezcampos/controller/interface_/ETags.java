@@ -0,0 +1,124 @@
+package com.lopezcampos.controller.interface_;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+import com.lopezcampos.exception.versioning.PreconditionFailedException;
+
+/**
+ * ETags for the read endpoints. HAL, plain JSON, CBOR and Smile are different representations, so the
+ * link-free ones get a ".json", ".cbor" or ".smile" suffix (responses also Vary on Accept).
+ */
+public final class ETags {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final ObjectMapper DIGEST_MAPPER = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+    private ETags() {
+    }
+
+    // getById: the version tag ("3-1") read without loading the row
+    public static String forVersion(String versionTag) {
+        return versionTag + representationSuffix();
+    }
+
+    // getById: 304 from the version tag alone, probed only when the client sent If-None-Match; null otherwise.
+    // Doesn't touch the response, so a 200 goes out with the tag read alongside its body
+    public static <T> ResponseEntity<T> notModified(String ifNoneMatch, Supplier<String> versionTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        String etag = forVersion(versionTag.get());
+        // Weak comparison, as for GET: W/ is ignored
+        boolean matches = ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.tag().equals(etag));
+        if (!matches) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    // getAll: digest of the page rows and cursors; links only derive from ids and the request URL.
+    // Weak, since the body may go out gzipped (the server never compresses under a strong ETag)
+    public static String forPage(CursorPageResponseDto<?> page) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                DIGEST_MAPPER.writeValue(out, page);
+            }
+            return "W/\"" + HexFormat.of().formatHex(digest.digest()) + representationSuffix() + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // If-Match: "3-1" → 3, the entity's own version; missing or * means unconditional
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        int end = 0;
+        while (end < tag.length() && Character.isDigit(tag.charAt(end))) {
+            end++;
+        }
+        if (end == 0) {
+            throw new PreconditionFailedException(ifMatch);
+        }
+        return Long.valueOf(tag.substring(0, end));
+    }
+
+    private static String representationSuffix() {
+        if (HateoasHelper.linksRequested()) {
+            return "";
+        }
+        // The binary formats are only ever served when asked for by name
+        for (MediaType mediaType : acceptedMediaTypes()) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return ".cbor";
+            }
+            if (mediaType.equalsTypeAndSubtype(SMILE)) {
+                return ".smile";
+            }
+        }
+        return ".json";
+    }
+
+    private static List<MediaType> acceptedMediaTypes() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return List.of();
+        }
+        String accept = attributes.getRequest().getHeader(HttpHeaders.ACCEPT);
+        try {
+            return accept == null ? List.of() : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return List.of();
+        }
+    }
+}
@@ -2,7 +2,23 @@ package com.lopezcampos.controller.interface_;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import com.lopezcampos.config.LayerMetrics;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -19,40 +35,49 @@ public class HateoasHelper {
             String updateRel,
             String deleteRel
     ) {
-        Long id = idExtractor.apply(item);
-
-        EntityModel<T> model = EntityModel.of(item,
-                linkTo(methodOn(controllerClass).getClass()).slash(id).withRel(getByIdRel),
-                linkTo(methodOn(controllerClass).getClass()).withRel("all")
-        );
-
-         // GET by ID
-        if (getByIdRel != null) {
-            model.add(linkTo(controllerClass).slash(id).withRel(getByIdRel));
-        }
-
-        // GET all 
-        model.add(linkTo(controllerClass).withRel("all"));
-
-        // POST / Create
-        if (createRel != null) {
-            model.add(linkTo(controllerClass).withRel(createRel));
+        if (!linksRequested()) {
+            return EntityModel.of(item);
         }
+        return LayerMetrics.modelLinks(controllerClass).record(() ->
+                new LinkTemplate(controllerClass, getByIdRel, createRel, updateRel, deleteRel)
+                        .toModel(item, idExtractor.apply(item)));
+    }
 
-        // PUT / Update
-        if (updateRel != null) {
-            model.add(linkTo(controllerClass).slash(id).withRel(updateRel));
-        }
+    public static <T> CollectionModel<EntityModel<T>> toCollectionModel(
+            List<T> list,
+            Function<T, Long> idExtractor,
+            Class<?> controllerClass,
+            String getByIdRel,
+            String createRel,
+            String updateRel,
+            String deleteRel
+    ) {
+        return LayerMetrics.collectionLinks(controllerClass).record(() -> buildCollectionModel(list, idExtractor,
+                controllerClass, getByIdRel, createRel, updateRel, deleteRel));
+    }
 
-        // DELETE
-        if (deleteRel != null) {
-            model.add(linkTo(controllerClass).slash(id).withRel(deleteRel));
+    // Plain application/json clients get the page itself (see LinkFreeResponseAdvice), no link is built
+    public static <T> CollectionModel<EntityModel<T>> toCollectionModel(
+            CursorPageResponseDto<T> page,
+            Function<T, Long> idExtractor,
+            Class<?> controllerClass,
+            String getByIdRel,
+            String createRel,
+            String updateRel,
+            String deleteRel
+    ) {
+        if (!linksRequested()) {
+            return new CursorPageModel<>(page);
         }
-
-        return model;
+        return LayerMetrics.collectionLinks(controllerClass).record(() -> {
+            CollectionModel<EntityModel<T>> model = buildCollectionModel(page.getContent(), idExtractor,
+                    controllerClass, getByIdRel, createRel, updateRel, deleteRel);
+            addPageLinks(model, page, controllerClass);
+            return model;
+        });
     }
 
-    public static <T> CollectionModel<EntityModel<T>> toCollectionModel(
+    private static <T> CollectionModel<EntityModel<T>> buildCollectionModel(
             List<T> list,
             Function<T, Long> idExtractor,
             Class<?> controllerClass,
@@ -61,13 +86,100 @@ public class HateoasHelper {
             String updateRel,
             String deleteRel
     ) {
-        List<EntityModel<T>> models = list.stream()
-                .map(item -> toModel(item, idExtractor, controllerClass, getByIdRel, createRel, updateRel, deleteRel))
-                .toList();
-
-        return CollectionModel.of(models,
-                linkTo(methodOn(controllerClass).getClass()).withSelfRel(),
-                linkTo(methodOn(controllerClass).getClass()).withRel(createRel)
-        );
+        LinkTemplate template = new LinkTemplate(controllerClass, getByIdRel, createRel, updateRel, deleteRel);
+        List<EntityModel<T>> models = new ArrayList<>(list.size());
+        for (T item : list) {
+            models.add(template.toModel(item, idExtractor.apply(item)));
+        }
+        return CollectionModel.of(models, template.collectionLinks());
+    }
+
+    // next / prev carry the opaque cursor and the effective page size
+    public static void addPageLinks(RepresentationModel<?> model, CursorPageResponseDto<?> page, Class<?> controllerClass) {
+        if (page.getNextCursor() == null && page.getPrevCursor() == null) {
+            return;
+        }
+        String base = linkTo(controllerClass).toUri().toString();
+        if (page.getNextCursor() != null) {
+            model.add(pageLink(base, page.getNextCursor(), page.getSize(), IanaLinkRelations.NEXT));
+        }
+        if (page.getPrevCursor() != null) {
+            model.add(pageLink(base, page.getPrevCursor(), page.getSize(), IanaLinkRelations.PREV));
+        }
+    }
+
+    /**
+     * HAL unless the client explicitly asks for JSON without HAL: no Accept header, *&#47;* and
+     * application/hal+json keep the links, a bare application/json drops them.
+     */
+    public static boolean linksRequested() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return true;
+        }
+        String accept = servletAttributes.getRequest().getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaTypes.HAL_JSON));
+        } catch (InvalidMediaTypeException ex) {
+            return true;
+        }
+    }
+
+    private static Link pageLink(String base, String cursor, int size, LinkRelation rel) {
+        String href = UriComponentsBuilder.fromUriString(base)
+                .queryParam("cursor", cursor)
+                .queryParam("size", size)
+                .toUriString();
+        return Link.of(href, rel);
+    }
+
+    /**
+     * Links of one controller resolved against the current request once; per item only the id is appended.
+     * Collection-level links are shared by every item since Link is immutable.
+     */
+    private static final class LinkTemplate {
+        private final String base;
+        private final String getByIdRel;
+        private final String updateRel;
+        private final String deleteRel;
+        private final Link allLink;
+        private final Link createLink;
+
+        LinkTemplate(Class<?> controllerClass, String getByIdRel, String createRel, String updateRel, String deleteRel) {
+            this.base = linkTo(controllerClass).toUri().toString();
+            this.getByIdRel = getByIdRel;
+            this.updateRel = updateRel;
+            this.deleteRel = deleteRel;
+            this.allLink = Link.of(base, "all");
+            this.createLink = createRel != null ? Link.of(base, createRel) : null;
+        }
+
+        <T> EntityModel<T> toModel(T item, Long id) {
+            String itemHref = base + "/" + id;
+            List<Link> links = new ArrayList<>(5);
+            if (getByIdRel != null) {
+                links.add(Link.of(itemHref, getByIdRel));
+            }
+            links.add(allLink);
+            if (createLink != null) {
+                links.add(createLink);
+            }
+            if (updateRel != null) {
+                links.add(Link.of(itemHref, updateRel));
+            }
+            if (deleteRel != null) {
+                links.add(Link.of(itemHref, deleteRel));
+            }
+            return EntityModel.of(item, links);
+        }
+
+        List<Link> collectionLinks() {
+            Link self = Link.of(base, IanaLinkRelations.SELF);
+            return createLink != null ? List.of(self, createLink) : List.of(self);
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.lopezcampos.controller.interface_;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Plain application/json clients get the bare DTO or cursor page instead of the HAL model.
+ */
+@RestControllerAdvice
+public class LinkFreeResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof RepresentationModel<?>) || HateoasHelper.linksRequested()) {
+            return body;
+        }
+        if (body instanceof CursorPageModel<?> pageModel) {
+            return pageModel.getPage();
+        }
+        if (body instanceof EntityModel<?> entityModel) {
+            return entityModel.getContent();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,29 @@
+package com.lopezcampos.controller.interface_;
+
+import java.util.List;
+
+import com.lopezcampos.exception.base.ValidationException;
+
+import jakarta.validation.Validator;
+
+/**
+ * PATCH bodies reuse the request DTOs, with the fields left out arriving as null. Constraints are checked on
+ * the fields that are present only: a @NotNull or @NotBlank field that is missing means "unchanged".
+ */
+public final class PatchRequests {
+
+    private PatchRequests() {
+    }
+
+    public static <T> T validated(Validator validator, T changes) {
+        List<String> errors = validator.validate(changes).stream()
+                .filter(violation -> violation.getInvalidValue() != null)
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        return changes;
+    }
+}
@@ -17,4 +17,6 @@ public class CourseResponseDto {
 
     private String teacherName;
     private String teacherSurname;
+
+    private Long version;
 }
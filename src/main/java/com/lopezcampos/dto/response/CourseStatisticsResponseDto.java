@@ -0,0 +1,19 @@
+package com.lopezcampos.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class CourseStatisticsResponseDto {
+    private Long idCourse;
+    // null when every period is included
+    private String academicPeriod;
+    private GradeStatisticsDto overall;
+    private List<GradeStatisticsDto> byType;
+}
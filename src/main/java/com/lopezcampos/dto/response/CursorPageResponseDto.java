@@ -0,0 +1,18 @@
+package com.lopezcampos.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private String prevCursor;
+    private int size;
+}
@@ -21,4 +21,6 @@ public class EvaluationResponseDto {
     private String studentSurname;
     private String courseName;
     private String courseCode;
+
+    private Long version;
 }
@@ -0,0 +1,28 @@
+package com.lopezcampos.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class GradeStatisticsDto {
+    // null on the overall figures
+    private String typeEvaluation;
+    private Long count;
+    private BigDecimal mean;
+    private BigDecimal min;
+    private BigDecimal max;
+    // Population standard deviation
+    private BigDecimal standardDeviation;
+    private BigDecimal percentile25;
+    private BigDecimal median;
+    private BigDecimal percentile75;
+    private BigDecimal percentile90;
+    private List<HistogramBucketDto> histogram;
+}
@@ -0,0 +1,18 @@
+package com.lopezcampos.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class HistogramBucketDto {
+    // [from, to), the last bucket also holds the top grade
+    private BigDecimal from;
+    private BigDecimal to;
+    private Long count;
+}
@@ -0,0 +1,19 @@
+package com.lopezcampos.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ImportReportDto {
+    private Long totalRows;
+    private Long imported;
+    private Long rejected;
+    private List<ImportRowErrorDto> errors;
+    private Boolean errorsTruncated;
+}
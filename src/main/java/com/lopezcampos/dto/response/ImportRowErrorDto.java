@@ -0,0 +1,17 @@
+package com.lopezcampos.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ImportRowErrorDto {
+    private Long row;
+    private String dni;
+    private List<String> messages;
+}
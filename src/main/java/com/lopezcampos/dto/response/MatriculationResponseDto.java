@@ -20,4 +20,6 @@ public class MatriculationResponseDto {
     private String studentSurname;
     private String courseName;
     private String courseCode;
+
+    private Long version;
 }
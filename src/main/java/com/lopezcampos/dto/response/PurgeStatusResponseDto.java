@@ -0,0 +1,25 @@
+package com.lopezcampos.dto.response;
+
+import java.time.Instant;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PurgeStatusResponseDto {
+    private boolean running;
+    // Table the running purge is working through
+    private String currentTable;
+    private Instant lastStartedAt;
+    private Instant lastFinishedAt;
+    private String lastError;
+    // Deleted rows still waiting to be purged, per flagged table
+    private Map<String, Long> tombstones;
+    // Rows removed since startup, per table
+    private Map<String, Long> purgedRows;
+}
@@ -19,4 +19,6 @@ public class ScheduleResponseDto {
 
     private String courseName;
     private String courseCode;
+
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.lopezcampos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SearchIndexStatsDto {
+    private long documents;
+    private long terms;
+    private long postings;
+    private long fuzzyKeys;
+    // Approximate heap held by the index, from the sizes of its maps, strings and arrays
+    private long estimatedBytes;
+}
@@ -0,0 +1,17 @@
+package com.lopezcampos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SearchResultDto {
+    private String type;
+    private Long id;
+    private String label;
+    private String detail;
+    private Double score;
+}
@@ -0,0 +1,20 @@
+package com.lopezcampos.dto.response;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class StudentPeriodSummaryDto {
+    private String academicPeriod;
+    private Long matriculations;
+    private Long credits;
+    private Long evaluations;
+    private Long gradedEvaluations;
+    private BigDecimal weightedAverage;
+}
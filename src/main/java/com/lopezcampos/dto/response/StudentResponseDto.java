@@ -21,4 +21,6 @@ public class StudentResponseDto {
     private LocalDate birthDate;
     private LocalDate enrollmentDate;
     private String status;
+
+    private Long version;
 }
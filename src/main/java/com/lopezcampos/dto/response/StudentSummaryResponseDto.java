@@ -0,0 +1,23 @@
+package com.lopezcampos.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class StudentSummaryResponseDto {
+    private Long idStudent;
+    private Long matriculations;
+    private Long credits;
+    private Long evaluations;
+    private Long gradedEvaluations;
+    // Credit-weighted average over every graded evaluation, null until something is graded
+    private BigDecimal weightedAverage;
+    private List<StudentPeriodSummaryDto> periods;
+}
@@ -0,0 +1,14 @@
+package com.lopezcampos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SummaryRebuildResponseDto {
+    private Integer summaries;
+    private Long elapsedMillis;
+}
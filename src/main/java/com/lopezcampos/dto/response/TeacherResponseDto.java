@@ -17,4 +17,6 @@ public class TeacherResponseDto {
     private String phone;
     private String specialty;
     private String status;
+
+    private Long version;
 }
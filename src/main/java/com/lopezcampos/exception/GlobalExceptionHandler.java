@@ -1,5 +1,8 @@
 package com.lopezcampos.exception;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -8,6 +11,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.lopezcampos.exception.base.BusinessException;
 import com.lopezcampos.exception.base.NotFoundException;
 import com.lopezcampos.exception.base.ValidationException;
+import com.lopezcampos.exception.schedules.ScheduleConflictException;
+import com.lopezcampos.exception.versioning.PreconditionFailedException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -21,6 +26,35 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailed(PreconditionFailedException ex) {
+        return buildResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), ex.getCode());
+    }
+
+    // Lost the @Version race against a concurrent edit
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        return buildResponse(HttpStatus.CONFLICT, "The entity was modified concurrently, reload and retry", "VERSION_002");
+    }
+
+    // A live row already holds the dni, email or course code; other integrity violations stay unexpected
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrity(DataIntegrityViolationException ex) {
+        if (ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+            return buildResponse(HttpStatus.CONFLICT, "Another record already uses one of these unique values", "UNIQUE_001");
+        }
+        return handleGeneric(ex);
+    }
+
+    // The clashing schedule ids go in the body so the client can show what is in the way
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<?> handleScheduleConflict(ScheduleConflictException ex) {
+        ResponseEntity<Map<String, Object>> response = buildResponse(HttpStatus.CONFLICT, ex.getMessage(), ex.getCode());
+        response.getBody().put("conflicts", ex.getConflicts());
+        return response;
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<?> handleBusiness(BusinessException ex) {
         return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), ex.getCode());
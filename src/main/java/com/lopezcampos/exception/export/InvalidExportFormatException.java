@@ -0,0 +1,9 @@
+package com.lopezcampos.exception.export;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+public class InvalidExportFormatException extends BusinessException {
+    public InvalidExportFormatException(String format) {
+        super("Invalid export format: " + format + " (expected ndjson or csv)", "EXPORT_001");
+    }
+}
@@ -0,0 +1,9 @@
+package com.lopezcampos.exception.pagination;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid page cursor: " + cursor, "PAGE_001");
+    }
+}
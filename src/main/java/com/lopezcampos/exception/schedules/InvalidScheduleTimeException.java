@@ -0,0 +1,11 @@
+package com.lopezcampos.exception.schedules;
+
+import java.time.LocalTime;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+public class InvalidScheduleTimeException extends BusinessException {
+    public InvalidScheduleTimeException(LocalTime startTime, LocalTime endTime) {
+        super("Schedule must end after it starts: " + startTime + " - " + endTime, "SCHED_002");
+    }
+}
@@ -0,0 +1,19 @@
+package com.lopezcampos.exception.schedules;
+
+import java.util.Map;
+import java.util.Set;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+import lombok.Getter;
+
+// conflicts: what clashed (classroom, teacher or student) -> ids of the schedules it clashed with
+@Getter
+public class ScheduleConflictException extends BusinessException {
+    private final Map<String, Set<Long>> conflicts;
+
+    public ScheduleConflictException(Map<String, Set<Long>> conflicts) {
+        super("Overlaps existing schedules " + conflicts, "SCHED_001");
+        this.conflicts = conflicts;
+    }
+}
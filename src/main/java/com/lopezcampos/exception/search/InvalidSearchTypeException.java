@@ -0,0 +1,9 @@
+package com.lopezcampos.exception.search;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+public class InvalidSearchTypeException extends BusinessException {
+    public InvalidSearchTypeException(String type) {
+        super("Invalid search type: " + type + " (expected student, teacher or course)", "SEARCH_001");
+    }
+}
@@ -0,0 +1,13 @@
+package com.lopezcampos.exception.versioning;
+
+import com.lopezcampos.exception.base.BusinessException;
+
+public class PreconditionFailedException extends BusinessException {
+    public PreconditionFailedException(Object id, Long expected, Long current) {
+        super("Entity " + id + " is at version " + current + ", If-Match expected " + expected, "VERSION_001");
+    }
+
+    public PreconditionFailedException(String ifMatch) {
+        super("Unusable If-Match header: " + ifMatch, "VERSION_001");
+    }
+}
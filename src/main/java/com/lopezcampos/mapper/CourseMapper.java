@@ -0,0 +1,25 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.model.Course;
+
+@Mapper(config = MapperSettings.class)
+public interface CourseMapper extends EntityMapper<Course, CourseRequestDto, CourseResponseDto> {
+
+    @Override
+    @Mapping(target = "teacherName", source = "teacher.name")
+    @Mapping(target = "teacherSurname", source = "teacher.surname")
+    CourseResponseDto toResponse(Course course);
+
+    // Teacher taken from the cached DTO, so a lazy teacher reference is never initialized
+    @Mapping(target = "name", source = "course.name")
+    @Mapping(target = "teacherName", source = "teacher.name")
+    @Mapping(target = "teacherSurname", source = "teacher.surname")
+    @Mapping(target = "version", source = "course.version")
+    CourseResponseDto toResponse(Course course, TeacherResponseDto teacher);
+}
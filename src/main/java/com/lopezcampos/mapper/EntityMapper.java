@@ -0,0 +1,30 @@
+package com.lopezcampos.mapper;
+
+import java.util.List;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+/**
+ * Compile-time generated mapping between an entity and its request/response DTOs.
+ * Implementations are plain getter/setter code emitted by MapStruct.
+ */
+public interface EntityMapper<T, REQ, RES> {
+
+    // RequestDto → Entity
+    T toEntity(REQ requestDto);
+
+    // Entity → ResponseDto
+    RES toResponse(T entity);
+
+    // List<Entity> → List<ResponseDto>
+    List<RES> toResponseList(List<T> entities);
+
+    // RequestDto over an existing entity
+    void updateEntity(REQ requestDto, @MappingTarget T entity);
+
+    // PATCH: only the fields the request carries, a null leaves the entity's value
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void patchEntity(REQ changes, @MappingTarget T entity);
+}
@@ -0,0 +1,19 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.model.Evaluation;
+
+@Mapper(config = MapperSettings.class)
+public interface EvaluationMapper extends EntityMapper<Evaluation, EvaluationRequestDto, EvaluationResponseDto> {
+
+    @Override
+    @Mapping(target = "studentName", source = "matriculation.student.name")
+    @Mapping(target = "studentSurname", source = "matriculation.student.surname")
+    @Mapping(target = "courseName", source = "matriculation.course.name")
+    @Mapping(target = "courseCode", source = "matriculation.course.code")
+    EvaluationResponseDto toResponse(Evaluation evaluation);
+}
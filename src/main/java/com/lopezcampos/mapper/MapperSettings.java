@@ -0,0 +1,13 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+// Relations (teacher, course, student...) are resolved by the services, not by the mappers
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface MapperSettings {
+}
@@ -0,0 +1,29 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.MatriculationResponseDto;
+import com.lopezcampos.model.Matriculation;
+
+@Mapper(config = MapperSettings.class)
+public interface MatriculationMapper
+        extends EntityMapper<Matriculation, MatriculationRequestDto, MatriculationResponseDto> {
+
+    @Override
+    @Mapping(target = "studentName", source = "student.name")
+    @Mapping(target = "studentSurname", source = "student.surname")
+    @Mapping(target = "courseName", source = "course.name")
+    @Mapping(target = "courseCode", source = "course.code")
+    MatriculationResponseDto toResponse(Matriculation matriculation);
+
+    // Course taken from the cached DTO, so a lazy course reference is never initialized
+    @Mapping(target = "studentName", source = "matriculation.student.name")
+    @Mapping(target = "studentSurname", source = "matriculation.student.surname")
+    @Mapping(target = "courseName", source = "course.name")
+    @Mapping(target = "courseCode", source = "course.code")
+    @Mapping(target = "version", source = "matriculation.version")
+    MatriculationResponseDto toResponse(Matriculation matriculation, CourseResponseDto course);
+}
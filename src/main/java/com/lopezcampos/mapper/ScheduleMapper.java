@@ -0,0 +1,24 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.ScheduleResponseDto;
+import com.lopezcampos.model.Schedule;
+
+@Mapper(config = MapperSettings.class)
+public interface ScheduleMapper extends EntityMapper<Schedule, ScheduleRequestDto, ScheduleResponseDto> {
+
+    @Override
+    @Mapping(target = "courseName", source = "course.name")
+    @Mapping(target = "courseCode", source = "course.code")
+    ScheduleResponseDto toResponse(Schedule schedule);
+
+    // Course taken from the cached DTO, so a lazy course reference is never initialized
+    @Mapping(target = "courseName", source = "course.name")
+    @Mapping(target = "courseCode", source = "course.code")
+    @Mapping(target = "version", source = "schedule.version")
+    ScheduleResponseDto toResponse(Schedule schedule, CourseResponseDto course);
+}
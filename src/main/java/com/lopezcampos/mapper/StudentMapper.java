@@ -0,0 +1,11 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.model.Student;
+
+@Mapper(config = MapperSettings.class)
+public interface StudentMapper extends EntityMapper<Student, StudentRequestDto, StudentResponseDto> {
+}
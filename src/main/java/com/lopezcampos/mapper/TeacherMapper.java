@@ -0,0 +1,11 @@
+package com.lopezcampos.mapper;
+
+import org.mapstruct.Mapper;
+
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.model.Teacher;
+
+@Mapper(config = MapperSettings.class)
+public interface TeacherMapper extends EntityMapper<Teacher, TeacherRequestDto, TeacherResponseDto> {
+}
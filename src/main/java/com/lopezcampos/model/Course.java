@@ -2,20 +2,44 @@ package com.lopezcampos.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.lopezcampos.config.SecondLevelCacheConfig;
+
 import java.util.List;
 
 @Entity
 @Table(name = "courses")
+@DynamicUpdate
+@SQLDelete(sql = "update courses set deleted = true where id_course = ? and version = ?")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSE)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Course {
+public class Course implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     @Column(name = "id_course")
     private Long idCourse;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
     
     @Column(name = "name", nullable = false, length = 150)
     private String name;
@@ -33,10 +57,11 @@ public class Course {
     @JoinColumn(name = "id_teacher", nullable = false)
     private Teacher teacher;
     
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "course", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSE_SCHEDULES)
     private List<Schedule> schedules;
     
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "course", fetch = FetchType.LAZY)
     private List<Matriculation> matriculations;
     
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.lopezcampos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Read model: how many evaluations of a course got exactly this grade, per period and evaluation type.
+ * Grades have two decimals on a 0-20 scale, so a course never has more than 2001 rows per period and type.
+ */
+@Entity
+@Table(name = "course_grade_counts")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseGradeCount {
+
+    @EmbeddedId
+    private CourseGradeCountId id;
+
+    @Column(name = "evaluations", nullable = false)
+    private Long evaluations;
+}
@@ -0,0 +1,30 @@
+package com.lopezcampos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CourseGradeCountId implements Serializable {
+
+    // Missing period or type are counted under the empty key (primary key columns can't be null)
+    public static final String NONE = "";
+
+    @Column(name = "id_course", nullable = false)
+    private Long idCourse;
+
+    @Column(name = "academic_period", length = 20, nullable = false)
+    private String academicPeriod;
+
+    @Column(name = "type_evaluation", length = 50, nullable = false)
+    private String typeEvaluation;
+
+    @Column(name = "grade", precision = 5, scale = 2, nullable = false)
+    private BigDecimal grade;
+}
@@ -3,21 +3,31 @@ package com.lopezcampos.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "evaluations")
+@DynamicUpdate
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Evaluation {
+public class Evaluation implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluations_seq")
+    @SequenceGenerator(name = "evaluations_seq", sequenceName = "evaluations_seq", allocationSize = 50)
     @Column(name = "id_evaluation")
     private Long idEvaluation;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
     
     @Column(name = "type_evaluation", length = 50)
     private String typeEvaluation;
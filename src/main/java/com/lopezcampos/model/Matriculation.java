@@ -2,21 +2,39 @@ package com.lopezcampos.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
 @Table(name = "matriculations")
+@DynamicUpdate
+@SQLDelete(sql = "update matriculations set deleted = true where id_matriculation = ? and version = ?")
+@SQLRestriction("deleted = false")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Matriculation {
+public class Matriculation implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matriculations_seq")
+    @SequenceGenerator(name = "matriculations_seq", sequenceName = "matriculations_seq", allocationSize = 50)
     @Column(name = "id_matriculation")
     private Long idMatriculation;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
     
     @Column(name = "academic_period", length = 20)
     private String academicPeriod;
@@ -35,7 +53,7 @@ public class Matriculation {
     @JoinColumn(name = "id_course", nullable = false)
     private Course course;
     
-    @OneToMany(mappedBy = "matriculation", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "matriculation", fetch = FetchType.LAZY)
     private List<Evaluation> evaluations;
     
 }
\ No newline at end of file
@@ -2,20 +2,37 @@ package com.lopezcampos.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.lopezcampos.config.SecondLevelCacheConfig;
+
 import java.time.LocalTime;
 
 @Entity
 @Table(name = "schedules")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.SCHEDULE)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Schedule {
+public class Schedule implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_seq")
+    @SequenceGenerator(name = "schedules_seq", sequenceName = "schedules_seq", allocationSize = 50)
     @Column(name = "id_schedule")
     private Long idSchedule;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
     
     @Column(name = "day_of_week", nullable = false, length = 20)
     private String dayOfWeek;
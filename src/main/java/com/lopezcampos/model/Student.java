@@ -2,21 +2,41 @@ package com.lopezcampos.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
 @Table(name = "students")
+// UPDATE lists only the columns that changed
+@DynamicUpdate
+@SQLDelete(sql = "update students set deleted = true where id_student = ? and version = ?")
+@SQLRestriction("deleted = false")
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Student {
+public class Student implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     @Column(name = "id_student")
     private Long idStudent;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Set by delete, which is an UPDATE (see @SQLDelete); the background purge removes the row later
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
     
     @Column(name = "name", nullable = false, length = 100)
     private String name;
@@ -24,10 +44,11 @@ public class Student {
     @Column(name = "surname", nullable = false, length = 100)
     private String surname;
     
-    @Column(name = "dni", unique = true, nullable = false, length = 20)
+    // dni and email are unique among live rows only, so a delete frees them before the purge (V5 migration)
+    @Column(name = "dni", nullable = false, length = 20)
     private String dni;
     
-    @Column(name = "email", unique = true, nullable = false, length = 150)
+    @Column(name = "email", nullable = false, length = 150)
     private String email;
     
     @Column(name = "phone", length = 20)
@@ -45,7 +66,7 @@ public class Student {
     @Column(name = "status", length = 20)
     private String status;
     
-    @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "student", fetch = FetchType.LAZY)
     private List<Matriculation> matriculations;
     
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.lopezcampos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Read model: running totals of a student's matriculations and evaluations in one academic period.
+ * Maintained by deltas in the same transaction as each write, see StudentSummaryServiceImpl.
+ */
+@Entity
+@Table(name = "student_summaries")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentSummary {
+
+    @EmbeddedId
+    private StudentSummaryId id;
+
+    @Column(name = "matriculations", nullable = false)
+    private Long matriculations;
+
+    @Column(name = "credits", nullable = false)
+    private Long credits;
+
+    @Column(name = "evaluations", nullable = false)
+    private Long evaluations;
+
+    @Column(name = "graded_evaluations", nullable = false)
+    private Long gradedEvaluations;
+
+    // Sum of grade x course credits over graded evaluations
+    @Column(name = "weighted_grade_sum", precision = 19, scale = 2, nullable = false)
+    private BigDecimal weightedGradeSum;
+
+    // Sum of course credits over graded evaluations
+    @Column(name = "grade_weight", nullable = false)
+    private Long gradeWeight;
+}
@@ -0,0 +1,27 @@
+package com.lopezcampos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class StudentSummaryId implements Serializable {
+
+    // Matriculations without a period are summarized under the empty key (primary key columns can't be null)
+    public static final String NO_PERIOD = "";
+
+    @Column(name = "id_student", nullable = false)
+    private Long idStudent;
+
+    @Column(name = "academic_period", length = 20, nullable = false)
+    private String academicPeriod;
+
+    public static StudentSummaryId of(Long idStudent, String academicPeriod) {
+        return new StudentSummaryId(idStudent, academicPeriod == null ? NO_PERIOD : academicPeriod);
+    }
+}
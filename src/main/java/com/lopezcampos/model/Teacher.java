@@ -2,20 +2,44 @@ package com.lopezcampos.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import com.lopezcampos.config.SecondLevelCacheConfig;
+
 import java.util.List;
 
 @Entity
 @Table(name = "teachers")
+@DynamicUpdate
+@SQLDelete(sql = "update teachers set deleted = true where id_teacher = ? and version = ?")
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TEACHER)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Teacher {
+public class Teacher implements Versioned {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teachers_seq")
+    @SequenceGenerator(name = "teachers_seq", sequenceName = "teachers_seq", allocationSize = 50)
     @Column(name = "id_teacher")
     private Long idTeacher;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
     
     @Column(name = "name", nullable = false, length = 100)
     private String name;
@@ -23,10 +47,11 @@ public class Teacher {
     @Column(name = "surname", nullable = false, length = 100)
     private String surname;
     
-    @Column(name = "dni", unique = true, nullable = false, length = 20)
+    // Unique only while the teacher isn't deleted (V5 keys a generated column that a delete sets to NULL)
+    @Column(name = "dni", nullable = false, length = 20)
     private String dni;
     
-    @Column(name = "email", unique = true, nullable = false, length = 150)
+    @Column(name = "email", nullable = false, length = 150)
     private String email;
     
     @Column(name = "phone", length = 20)
@@ -38,7 +63,7 @@ public class Teacher {
     @Column(name = "status", length = 20)
     private String status;
     
-    @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "teacher", fetch = FetchType.LAZY)
     private List<Course> courses;
     
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.lopezcampos.model;
+
+/**
+ * Entities carrying an optimistic-locking @Version column.
+ */
+public interface Versioned {
+    Long getVersion();
+}
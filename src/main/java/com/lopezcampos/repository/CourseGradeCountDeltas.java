@@ -0,0 +1,9 @@
+package com.lopezcampos.repository;
+
+import java.math.BigDecimal;
+
+public interface CourseGradeCountDeltas {
+
+    // Atomic add-in-place; rows that drop to zero stay and are skipped on read
+    int addCount(Long idCourse, String academicPeriod, String typeEvaluation, BigDecimal grade, long evaluations);
+}
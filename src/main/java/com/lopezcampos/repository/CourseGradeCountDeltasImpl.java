@@ -0,0 +1,23 @@
+package com.lopezcampos.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+class CourseGradeCountDeltasImpl implements CourseGradeCountDeltas {
+
+    private final AddInPlaceUpsert upsert;
+
+    CourseGradeCountDeltasImpl(EntityManager entityManager) {
+        this.upsert = new AddInPlaceUpsert(entityManager, "course_grade_counts",
+                List.of("id_course", "academic_period", "type_evaluation", "grade"),
+                List.of("evaluations"));
+    }
+
+    @Override
+    public int addCount(Long idCourse, String academicPeriod, String typeEvaluation, BigDecimal grade,
+                        long evaluations) {
+        return upsert.execute(idCourse, academicPeriod, typeEvaluation, grade, evaluations);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lopezcampos.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import com.lopezcampos.model.CourseGradeCount;
+import com.lopezcampos.model.CourseGradeCountId;
+import com.lopezcampos.service.summary.GradeCount;
+
+public interface CourseGradeCountRepository extends JpaRepository<CourseGradeCount, CourseGradeCountId>,
+        CourseGradeCountDeltas {
+
+    // The whole distribution in one GROUP BY pass over evaluations; matriculations awaiting purge are skipped
+    String INSERT_COUNTS = "insert into course_grade_counts (id_course, academic_period, type_evaluation, grade, evaluations)"
+            + " select m.id_course, coalesce(m.academic_period, ''), coalesce(e.type_evaluation, ''), e.grade, count(*)"
+            + " from evaluations e join matriculations m on m.id_matriculation = e.id_matriculation"
+            + " where e.grade is not null and m.deleted = false";
+
+    String GROUP_COUNTS = " group by m.id_course, coalesce(m.academic_period, ''), coalesce(e.type_evaluation, ''), e.grade";
+
+    // Sorted by grade so percentiles are a single cumulative walk
+    @Query("select new com.lopezcampos.service.summary.GradeCount(g.id.academicPeriod, g.id.typeEvaluation,"
+            + " g.id.grade, g.evaluations) from CourseGradeCount g"
+            + " where g.id.idCourse = :idCourse and g.evaluations > 0 order by g.id.grade")
+    List<GradeCount> findByCourse(Long idCourse);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_grade_counts"))
+    @Query(nativeQuery = true, value = INSERT_COUNTS + GROUP_COUNTS)
+    int insertCounts();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_grade_counts"))
+    @Query(nativeQuery = true, value = INSERT_COUNTS + " and m.id_course in (:idCourses)" + GROUP_COUNTS)
+    int insertCounts(Collection<Long> idCourses);
+
+    @Modifying
+    @Query("delete from CourseGradeCount g where g.id.idCourse in (:idCourses)")
+    int deleteByCourses(Collection<Long> idCourses);
+}
@@ -1,9 +1,78 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.CourseResponseDto;
 import com.lopezcampos.model.Course;
+import com.lopezcampos.service.schedule.CourseTeacher;
+
+public interface CourseRepository extends JpaRepository<Course, Long>,
+        ResponseProjectionRepository<CourseResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.CourseResponseDto("
+            + "c.idCourse, c.name, c.code, c.credits, c.semester,"
+            + " t.name, t.surname, c.version) from Course c join c.teacher t";
+
+    @Query("select c.idCourse from Course c where c.teacher.idTeacher = :idTeacher")
+    List<Long> findIdsByTeacherId(Long idTeacher);
+
+    // Startup load of the schedule conflict index
+    @Query("select new com.lopezcampos.service.schedule.CourseTeacher(c.idCourse, c.teacher.idTeacher) from Course c")
+    List<CourseTeacher> findCourseTeachers();
+
+    // Query cache: id, ETag and page reads are served from memory until a course or teacher row changes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where c.idCourse = :id")
+    Optional<CourseResponseDto> findResponseById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select concat(cast(c.version as String), '-', cast(t.version as String))"
+            + " from Course c join c.teacher t where c.idCourse = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where :after is null or c.idCourse > :after order by c.idCourse asc")
+    List<CourseResponseDto> findResponsesAfter(Long after, Limit limit);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where c.idCourse < :before order by c.idCourse desc")
+    List<CourseResponseDto> findResponsesBefore(Long before, Limit limit);
+
+    // Natural key: unique index on code
+    @Query(SELECT_RESPONSE + " where c.code = :code")
+    Optional<CourseResponseDto> findResponseByCode(String code);
+
+    // Bulk counterpart of the entity's @SQLDelete: one UPDATE of the flag for all of a teacher's courses
+    @Modifying
+    @Query("update Course c set c.deleted = true where c.teacher.idTeacher = :idTeacher")
+    int softDeleteByTeacherId(Long idTeacher);
+
+    // Purge: tombstones left with no matriculations or schedules, which are purged first
+    @Query(nativeQuery = true, value = "select c.id_course from courses c where c.deleted = true"
+            + " and not exists (select 1 from matriculations m where m.id_course = c.id_course)"
+            + " and not exists (select 1 from schedules s where s.id_course = c.id_course) limit :limit")
+    List<Long> findPurgeableIds(int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "courses"))
+    @Query(nativeQuery = true, value = "delete from courses where id_course in (:ids) and deleted = true")
+    int purge(Collection<Long> ids);
 
-public interface CourseRepository extends JpaRepository<Course, Long> {
-  
+    @Query(nativeQuery = true, value = "select count(*) from courses where deleted = true")
+    long countTombstones();
 }
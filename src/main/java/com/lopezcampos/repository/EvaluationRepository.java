@@ -1,9 +1,70 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.EvaluationResponseDto;
 import com.lopezcampos.model.Evaluation;
+import com.lopezcampos.service.summary.GradeEntry;
+
+public interface EvaluationRepository extends JpaRepository<Evaluation, Long>,
+        ResponseProjectionRepository<EvaluationResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.EvaluationResponseDto("
+            + "e.idEvaluation, e.typeEvaluation, e.date, e.grade,"
+            + " s.name, s.surname, c.name, c.code, e.version)"
+            + " from Evaluation e join e.matriculation m join m.student s join m.course c";
+
+    @Override
+    @EntityGraph(attributePaths = {"matriculation.student", "matriculation.course"})
+    Optional<Evaluation> findById(Long id);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where e.idEvaluation = :id")
+    Optional<EvaluationResponseDto> findResponseById(Long id);
+
+    @Override
+    @Query("select concat(cast(e.version as String), '-', cast(m.version as String), '-',"
+            + " cast(s.version as String), '-', cast(c.version as String))"
+            + " from Evaluation e join e.matriculation m join m.student s join m.course c where e.idEvaluation = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where :after is null or e.idEvaluation > :after order by e.idEvaluation asc")
+    List<EvaluationResponseDto> findResponsesAfter(Long after, Limit limit);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where e.idEvaluation < :before order by e.idEvaluation desc")
+    List<EvaluationResponseDto> findResponsesBefore(Long before, Limit limit);
+
+    @Query("select new com.lopezcampos.service.summary.GradeEntry(e.typeEvaluation, e.grade)"
+            + " from Evaluation e where e.matriculation.idMatriculation = :idMatriculation")
+    List<GradeEntry> findGradeEntriesByMatriculationId(Long idMatriculation);
+
+    // Must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_RESPONSE + " where :academicPeriod is null or m.academicPeriod = :academicPeriod order by e.idEvaluation")
+    Stream<EvaluationResponseDto> streamResponses(String academicPeriod);
+
+    // Purge: evaluations of deleted matriculations, through the (id_matriculation, ...) index
+    @Query(nativeQuery = true, value = "select e.id_evaluation from matriculations m join evaluations e"
+            + " on e.id_matriculation = m.id_matriculation where m.deleted = true limit :limit")
+    List<Long> findPurgeableIds(int limit);
 
-public interface EvaluationRepository extends JpaRepository<Evaluation, Long>{
-  
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "evaluations"))
+    @Query(nativeQuery = true, value = "delete from evaluations where id_evaluation in (:ids)")
+    int purge(Collection<Long> ids);
 }
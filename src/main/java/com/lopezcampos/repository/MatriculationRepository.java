@@ -1,9 +1,96 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.MatriculationResponseDto;
 import com.lopezcampos.model.Matriculation;
+import com.lopezcampos.service.schedule.Enrollment;
+
+public interface MatriculationRepository extends JpaRepository<Matriculation, Long>,
+        ResponseProjectionRepository<MatriculationResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.MatriculationResponseDto("
+            + "m.idMatriculation, m.academicPeriod, m.matriculationDate, m.matriculationStatus,"
+            + " s.name, s.surname, c.name, c.code, m.version) from Matriculation m join m.student s join m.course c";
+
+    @Override
+    @Query(SELECT_RESPONSE + " where m.idMatriculation = :id")
+    Optional<MatriculationResponseDto> findResponseById(Long id);
+
+    @Override
+    @Query("select concat(cast(m.version as String), '-', cast(s.version as String), '-', cast(c.version as String))"
+            + " from Matriculation m join m.student s join m.course c where m.idMatriculation = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where :after is null or m.idMatriculation > :after order by m.idMatriculation asc")
+    List<MatriculationResponseDto> findResponsesAfter(Long after, Limit limit);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where m.idMatriculation < :before order by m.idMatriculation desc")
+    List<MatriculationResponseDto> findResponsesBefore(Long before, Limit limit);
+
+    // Evaluation writes map the student and course names into their response
+    @EntityGraph(attributePaths = {"student", "course"})
+    @Query("select m from Matriculation m where m.idMatriculation = :id")
+    Optional<Matriculation> findWithStudentAndCourseById(Long id);
+
+    // Own writes: the response names the student, the course comes from the cache
+    @EntityGraph(attributePaths = "student")
+    @Query("select m from Matriculation m where m.idMatriculation = :id")
+    Optional<Matriculation> findWithStudentById(Long id);
+
+    @Query("select distinct m.student.idStudent from Matriculation m where m.course.idCourse = :idCourse")
+    List<Long> findStudentIdsByCourseId(Long idCourse);
+
+    @Query("select distinct m.student.idStudent from Matriculation m where m.course.idCourse in (:idCourses)")
+    List<Long> findStudentIdsByCourseIds(Collection<Long> idCourses);
+
+    @Query("select distinct m.course.idCourse from Matriculation m where m.student.idStudent = :idStudent")
+    List<Long> findCourseIdsByStudentId(Long idStudent);
+
+    // Bulk counterparts of the entity's @SQLDelete: one UPDATE of the flag, through the student or course index
+    @Modifying
+    @Query("update Matriculation m set m.deleted = true where m.student.idStudent = :idStudent")
+    int softDeleteByStudentId(Long idStudent);
+
+    @Modifying
+    @Query("update Matriculation m set m.deleted = true where m.course.idCourse in (:idCourses)")
+    int softDeleteByCourseIds(Collection<Long> idCourses);
+
+    // Startup load of the schedule conflict index
+    @Query("select new com.lopezcampos.service.schedule.Enrollment(m.idMatriculation, m.student.idStudent,"
+            + " m.academicPeriod, m.course.idCourse) from Matriculation m")
+    List<Enrollment> findEnrollments();
+
+    // Purge: tombstones left with no evaluations, which are purged first
+    @Query(nativeQuery = true, value = "select m.id_matriculation from matriculations m where m.deleted = true"
+            + " and not exists (select 1 from evaluations e where e.id_matriculation = m.id_matriculation) limit :limit")
+    List<Long> findPurgeableIds(int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "matriculations"))
+    @Query(nativeQuery = true, value = "delete from matriculations where id_matriculation in (:ids) and deleted = true")
+    int purge(Collection<Long> ids);
+
+    @Query(nativeQuery = true, value = "select count(*) from matriculations where deleted = true")
+    long countTombstones();
 
-public interface MatriculationRepository extends JpaRepository<Matriculation, Long> {
-  
+    // Must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_RESPONSE + " where :academicPeriod is null or m.academicPeriod = :academicPeriod order by m.idMatriculation")
+    Stream<MatriculationResponseDto> streamResponses(String academicPeriod);
 }
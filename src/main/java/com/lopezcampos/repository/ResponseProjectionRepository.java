@@ -0,0 +1,30 @@
+package com.lopezcampos.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Read side of a repository: selects straight into the ResponseDto with a JPQL constructor
+ * expression, joined columns included, so reads never hydrate or snapshot managed entities.
+ * Each repository overrides these methods with its own @Query.
+ */
+@NoRepositoryBean
+public interface ResponseProjectionRepository<RES, ID> {
+
+    // JDBC fetch size for forward-only export streams
+    String EXPORT_FETCH_SIZE = "500";
+
+    Optional<RES> findResponseById(ID id);
+
+    // Version of the row joined with the versions of every parent the response flattens, e.g. "3-1"
+    Optional<String> findVersionTagById(ID id);
+
+    // first page when after is null, otherwise WHERE id > :after ORDER BY id ASC
+    List<RES> findResponsesAfter(Long after, Limit limit);
+
+    // WHERE id < :before ORDER BY id DESC
+    List<RES> findResponsesBefore(Long before, Limit limit);
+}
@@ -1,9 +1,63 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.ScheduleResponseDto;
 import com.lopezcampos.model.Schedule;
+import com.lopezcampos.service.schedule.ScheduleSlot;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>,
+        ResponseProjectionRepository<ScheduleResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.ScheduleResponseDto("
+            + "sc.idSchedule, sc.dayOfWeek, sc.startTime, sc.endTime, sc.classroom,"
+            + " c.name, c.code, sc.version) from Schedule sc join sc.course c";
+
+    // Startup load of the schedule conflict index; the join leaves out schedules of deleted courses
+    @Query("select new com.lopezcampos.service.schedule.ScheduleSlot(sc.idSchedule, c.idCourse,"
+            + " sc.classroom, sc.dayOfWeek, sc.startTime, sc.endTime) from Schedule sc join sc.course c")
+    List<ScheduleSlot> findSlots();
+
+    // Purge: schedules hang off their course without a flag of their own
+    @Query(nativeQuery = true, value = "select s.id_schedule from schedules s join courses c on c.id_course = s.id_course"
+            + " where c.deleted = true limit :limit")
+    List<Long> findPurgeableIds(int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "schedules"))
+    @Query(nativeQuery = true, value = "delete from schedules where id_schedule in (:ids)")
+    int purge(Collection<Long> ids);
+
+    // Query cache: id, ETag and page reads are served from memory until a schedule or course row changes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where sc.idSchedule = :id")
+    Optional<ScheduleResponseDto> findResponseById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select concat(cast(sc.version as String), '-', cast(c.version as String))"
+            + " from Schedule sc join sc.course c where sc.idSchedule = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where :after is null or sc.idSchedule > :after order by sc.idSchedule asc")
+    List<ScheduleResponseDto> findResponsesAfter(Long after, Limit limit);
 
-public interface ScheduleRepository extends JpaRepository<Schedule, Long>{
-  
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where sc.idSchedule < :before order by sc.idSchedule desc")
+    List<ScheduleResponseDto> findResponsesBefore(Long before, Limit limit);
 }
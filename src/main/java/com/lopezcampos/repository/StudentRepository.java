@@ -1,9 +1,75 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.StudentResponseDto;
 import com.lopezcampos.model.Student;
 
-public interface StudentRepository extends JpaRepository<Student, Long> {
-  
+public interface StudentRepository extends JpaRepository<Student, Long>,
+        ResponseProjectionRepository<StudentResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.StudentResponseDto("
+            + "s.idStudent, s.name, s.surname, s.dni, s.email, s.phone, s.address,"
+            + " s.birthDate, s.enrollmentDate, s.status, s.version) from Student s";
+
+    @Override
+    @Query(SELECT_RESPONSE + " where s.idStudent = :id")
+    Optional<StudentResponseDto> findResponseById(Long id);
+
+    @Override
+    @Query("select cast(s.version as String) from Student s where s.idStudent = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where :after is null or s.idStudent > :after order by s.idStudent asc")
+    List<StudentResponseDto> findResponsesAfter(Long after, Limit limit);
+
+    @Override
+    @Query(SELECT_RESPONSE + " where s.idStudent < :before order by s.idStudent desc")
+    List<StudentResponseDto> findResponsesBefore(Long before, Limit limit);
+
+    // Must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SELECT_RESPONSE + " where :academicPeriod is null or exists (select 1 from Matriculation m"
+            + " where m.student = s and m.academicPeriod = :academicPeriod) order by s.idStudent")
+    Stream<StudentResponseDto> streamResponses(String academicPeriod);
+
+    // Natural keys: both columns carry a unique index
+    @Query(SELECT_RESPONSE + " where s.dni = :dni")
+    Optional<StudentResponseDto> findResponseByDni(String dni);
+
+    @Query(SELECT_RESPONSE + " where s.email = :email")
+    Optional<StudentResponseDto> findResponseByEmail(String email);
+
+    // Native so deleted students awaiting purge count too: their dni and email still hold the unique index
+    @Query(nativeQuery = true, value = "select dni from students where dni in (:dnis)")
+    List<String> findExistingDnis(Collection<String> dnis);
+
+    @Query(nativeQuery = true, value = "select email from students where email in (:emails)")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // Purge: tombstones left with no matriculations, which are purged first
+    @Query(nativeQuery = true, value = "select s.id_student from students s where s.deleted = true"
+            + " and not exists (select 1 from matriculations m where m.id_student = s.id_student) limit :limit")
+    List<Long> findPurgeableIds(int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "students"))
+    @Query(nativeQuery = true, value = "delete from students where id_student in (:ids) and deleted = true")
+    int purge(Collection<Long> ids);
+
+    @Query(nativeQuery = true, value = "select count(*) from students where deleted = true")
+    long countTombstones();
 }
@@ -0,0 +1,10 @@
+package com.lopezcampos.repository;
+
+import java.math.BigDecimal;
+
+public interface StudentSummaryDeltas {
+
+    // Atomic add-in-place, so concurrent writers for the same student never lose an increment
+    int addDelta(Long idStudent, String academicPeriod, long matriculations, long credits, long evaluations,
+                 long gradedEvaluations, BigDecimal weightedGradeSum, long gradeWeight);
+}
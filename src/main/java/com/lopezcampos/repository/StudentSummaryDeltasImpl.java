@@ -0,0 +1,25 @@
+package com.lopezcampos.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+class StudentSummaryDeltasImpl implements StudentSummaryDeltas {
+
+    private final AddInPlaceUpsert upsert;
+
+    StudentSummaryDeltasImpl(EntityManager entityManager) {
+        this.upsert = new AddInPlaceUpsert(entityManager, "student_summaries",
+                List.of("id_student", "academic_period"),
+                List.of("matriculations", "credits", "evaluations", "graded_evaluations", "weighted_grade_sum",
+                        "grade_weight"));
+    }
+
+    @Override
+    public int addDelta(Long idStudent, String academicPeriod, long matriculations, long credits, long evaluations,
+                        long gradedEvaluations, BigDecimal weightedGradeSum, long gradeWeight) {
+        return upsert.execute(idStudent, academicPeriod, matriculations, credits, evaluations, gradedEvaluations,
+                weightedGradeSum, gradeWeight);
+    }
+}
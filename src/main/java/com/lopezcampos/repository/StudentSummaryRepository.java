@@ -0,0 +1,50 @@
+package com.lopezcampos.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+import com.lopezcampos.model.StudentSummary;
+import com.lopezcampos.model.StudentSummaryId;
+
+public interface StudentSummaryRepository extends JpaRepository<StudentSummary, StudentSummaryId>,
+        StudentSummaryDeltas {
+
+    // Same aggregate the deltas maintain, computed from scratch; evaluations are pre-grouped per matriculation.
+    // Native SQL sees tombstones: deleting a student or course also flags its matriculations, so one filter does
+    String INSERT_AGGREGATES = "insert into student_summaries (id_student, academic_period, matriculations, credits,"
+            + " evaluations, graded_evaluations, weighted_grade_sum, grade_weight)"
+            + " select m.id_student, coalesce(m.academic_period, ''), count(*), coalesce(sum(c.credits), 0),"
+            + " coalesce(sum(ev.evaluations), 0), coalesce(sum(ev.graded), 0),"
+            + " coalesce(sum(ev.grade_sum * coalesce(c.credits, 0)), 0), coalesce(sum(ev.graded * coalesce(c.credits, 0)), 0)"
+            + " from matriculations m join courses c on c.id_course = m.id_course"
+            + " left join (select id_matriculation, count(*) as evaluations, count(grade) as graded,"
+            + " sum(grade) as grade_sum from evaluations group by id_matriculation) ev"
+            + " on ev.id_matriculation = m.id_matriculation where m.deleted = false";
+
+    String GROUP_AGGREGATES = " group by m.id_student, coalesce(m.academic_period, '')";
+
+    @Query("select s from StudentSummary s where s.id.idStudent = :idStudent order by s.id.academicPeriod")
+    List<StudentSummary> findByStudent(Long idStudent);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_summaries"))
+    @Query(nativeQuery = true, value = INSERT_AGGREGATES + GROUP_AGGREGATES)
+    int insertAggregates();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_summaries"))
+    @Query(nativeQuery = true, value = INSERT_AGGREGATES + " and m.id_student in (:idStudents)" + GROUP_AGGREGATES)
+    int insertAggregates(Collection<Long> idStudents);
+
+    @Modifying
+    @Query("delete from StudentSummary s where s.id.idStudent in (:idStudents)")
+    int deleteByStudents(Collection<Long> idStudents);
+}
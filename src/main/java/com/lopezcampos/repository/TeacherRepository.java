@@ -1,9 +1,65 @@
 package com.lopezcampos.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
 
+import com.lopezcampos.dto.response.TeacherResponseDto;
 import com.lopezcampos.model.Teacher;
 
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
-  
+public interface TeacherRepository extends JpaRepository<Teacher, Long>,
+        ResponseProjectionRepository<TeacherResponseDto, Long> {
+
+    String SELECT_RESPONSE = "select new com.lopezcampos.dto.response.TeacherResponseDto("
+            + "t.idTeacher, t.name, t.surname, t.dni, t.email, t.phone, t.specialty, t.status, t.version) from Teacher t";
+
+    // Query cache: id, ETag and page reads are served from memory until a teacher row changes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where t.idTeacher = :id")
+    Optional<TeacherResponseDto> findResponseById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select cast(t.version as String) from Teacher t where t.idTeacher = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where :after is null or t.idTeacher > :after order by t.idTeacher asc")
+    List<TeacherResponseDto> findResponsesAfter(Long after, Limit limit);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(SELECT_RESPONSE + " where t.idTeacher < :before order by t.idTeacher desc")
+    List<TeacherResponseDto> findResponsesBefore(Long before, Limit limit);
+
+    // Natural keys: both columns carry a unique index
+    @Query(SELECT_RESPONSE + " where t.dni = :dni")
+    Optional<TeacherResponseDto> findResponseByDni(String dni);
+
+    @Query(SELECT_RESPONSE + " where t.email = :email")
+    Optional<TeacherResponseDto> findResponseByEmail(String email);
+
+    // Purge: tombstones left with no courses, which are purged first
+    @Query(nativeQuery = true, value = "select t.id_teacher from teachers t where t.deleted = true"
+            + " and not exists (select 1 from courses c where c.id_teacher = t.id_teacher) limit :limit")
+    List<Long> findPurgeableIds(int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "teachers"))
+    @Query(nativeQuery = true, value = "delete from teachers where id_teacher in (:ids) and deleted = true")
+    int purge(Collection<Long> ids);
+
+    @Query(nativeQuery = true, value = "select count(*) from teachers where deleted = true")
+    long countTombstones();
 }
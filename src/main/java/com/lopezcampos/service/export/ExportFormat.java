@@ -0,0 +1,36 @@
+package com.lopezcampos.service.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+import com.lopezcampos.exception.export.InvalidExportFormatException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    // Missing format defaults to NDJSON
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidExportFormatException(value);
+    }
+
+    public String attachment(String name) {
+        return ContentDisposition.attachment().filename(name + "." + extension).build().toString();
+    }
+}
@@ -0,0 +1,61 @@
+package com.lopezcampos.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@Component
+public class ExportWriter {
+
+    public static final int FLUSH_EVERY = 500;
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public ExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Writes row by row and flushes every FLUSH_EVERY rows; the caller owns (and closes) both stream and output
+    public <T> long write(Stream<T> rows, Class<T> type, ExportFormat format, OutputStream out) throws IOException {
+        long written = 0;
+        try (SequenceWriter sequence = writerFor(type, format).writeValues(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sequence.write(iterator.next());
+                if (++written % FLUSH_EVERY == 0) {
+                    sequence.flush();
+                }
+            }
+        }
+        if (format == ExportFormat.NDJSON && written > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return written;
+    }
+
+    private ObjectWriter writerFor(Class<?> type, ExportFormat format) {
+        ObjectWriter writer = switch (format) {
+            case NDJSON -> objectMapper.writerFor(type).withRootValueSeparator("\n");
+            case CSV -> csvMapper.writerFor(type).with(csvMapper.schemaFor(type).withHeader());
+        };
+        return writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lopezcampos.service.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@Component
+public class ImportReader {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    public ImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // Lazily parses one row per nextValue(); CSV columns are matched by header name
+    public <T> MappingIterator<T> read(InputStream in, Class<T> type, ExportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(type).readValues(in);
+            case CSV -> csvMapper.readerFor(type).with(CsvSchema.emptySchema().withHeader()).readValues(in);
+        };
+    }
+}
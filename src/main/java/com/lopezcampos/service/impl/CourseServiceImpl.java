@@ -1,56 +1,147 @@
 package com.lopezcampos.service.impl;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.lopezcampos.config.ModelMapperConfig;
+import com.lopezcampos.config.CacheConfig;
 import com.lopezcampos.dto.request.CourseRequestDto;
 import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
 import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.mapper.CourseMapper;
 import com.lopezcampos.model.Course;
-import com.lopezcampos.model.Teacher;
 import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.MatriculationRepository;
 import com.lopezcampos.repository.TeacherRepository;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+import com.lopezcampos.service.search.SearchType;
 
 @Service
 public class CourseServiceImpl 
         extends AbstractCrudService<Course, Long, CourseRequestDto, CourseResponseDto, CourseRepository> {
 
+    private final CourseMapper courseMapper;
     private final TeacherRepository teacherRepository;
+    private final TeacherServiceImpl teacherService;
+    private final MatriculationRepository matriculationRepository;
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+    private final ScheduleConflictIndex conflictIndex;
+    private final SearchServiceImpl searchService;
+    private final PurgeServiceImpl purgeService;
 
-    public CourseServiceImpl(CourseRepository repository, TeacherRepository teacherRepository) {
-        super(repository, Course.class, CourseResponseDto.class);
+    public CourseServiceImpl(CourseRepository repository, TeacherRepository teacherRepository,
+                             TeacherServiceImpl teacherService, MatriculationRepository matriculationRepository,
+                             StudentSummaryServiceImpl summaryService, CourseStatisticsServiceImpl statisticsService,
+                             ScheduleConflictIndex conflictIndex, SearchServiceImpl searchService,
+                             PurgeServiceImpl purgeService, CourseMapper courseMapper) {
+        super(repository, courseMapper, CourseResponseDto::getIdCourse);
+        this.courseMapper = courseMapper;
         this.teacherRepository = teacherRepository;
+        this.teacherService = teacherService;
+        this.matriculationRepository = matriculationRepository;
+        this.summaryService = summaryService;
+        this.statisticsService = statisticsService;
+        this.conflictIndex = conflictIndex;
+        this.searchService = searchService;
+        this.purgeService = purgeService;
+    }
+
+    // Fills the reference cache, so it reads the primary (see TeacherServiceImpl.getById)
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#id")
+    public CourseResponseDto getById(Long id) {
+        return repository.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Course not found with id " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public CourseResponseDto getByCode(String code) {
+        return repository.findResponseByCode(code)
+                .orElseThrow(() -> new NotFoundException("Course not found with code " + code));
     }
 
+    // The teacher is checked against the cache and linked by reference; one removed since it was cached fails the flush
     @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.COURSES, key = "#result.idCourse")
     public CourseResponseDto create(CourseRequestDto requestDto) {
-        Course course = ModelMapperConfig.map(requestDto, Course.class);
+        Course course = mapper.toEntity(requestDto);
 
-        Teacher teacher = teacherRepository.findById(requestDto.getTeacherId())
-                .orElseThrow(() -> new NotFoundException("Teacher not found with id " + requestDto.getTeacherId()));
+        TeacherResponseDto teacher = teacherService.getById(requestDto.getTeacherId());
+        course.setTeacher(teacherRepository.getReferenceById(teacher.getIdTeacher()));
 
-        course.setTeacher(teacher);
+        Course saved = saveAndFlush(course);
+        conflictIndex.assignTeacher(saved.getIdCourse(), teacher.getIdTeacher());
+        CourseResponseDto created = courseMapper.toResponse(saved, teacher);
+        searchService.index(created);
+        return created;
+    }
 
-        Course saved = repository.save(course);
-        return ModelMapperConfig.map(saved, CourseResponseDto.class);
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.COURSES, key = "#id")
+    public CourseResponseDto update(Long id, CourseRequestDto requestDto, Long expectedVersion) {
+        return write(id, expectedVersion, requestDto.getTeacherId(), course -> {
+            course.setName(requestDto.getName());
+            course.setCode(requestDto.getCode());
+            course.setCredits(requestDto.getCredits());
+            course.setSemester(requestDto.getSemester());
+        });
     }
 
     @Override
-    public CourseResponseDto update(Long id, CourseRequestDto requestDto) {
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.COURSES, key = "#id")
+    public CourseResponseDto patch(Long id, CourseRequestDto changes, Long expectedVersion) {
+        return write(id, expectedVersion, changes.getTeacherId(), course -> mapper.patchEntity(changes, course));
+    }
+
+    // New credits re-weight every enrolled student's summary, so those are recomputed; a null teacherId keeps the teacher
+    private CourseResponseDto write(Long id, Long expectedVersion, Long teacherId, Consumer<Course> changes) {
         Course course = repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Course not found with id " + id));
+        checkVersion(id, course, expectedVersion);
+        Integer creditsBefore = course.getCredits();
 
-        course.setName(requestDto.getName());
-        course.setCode(requestDto.getCode());
-        course.setCredits(requestDto.getCredits());
-        course.setSemester(requestDto.getSemester());
+        changes.accept(course);
 
-        Teacher teacher = teacherRepository.findById(requestDto.getTeacherId())
-                .orElseThrow(() -> new NotFoundException("Teacher not found with id " + requestDto.getTeacherId()));
-        course.setTeacher(teacher);
+        TeacherResponseDto teacher = teacherService.getById(
+                teacherId != null ? teacherId : course.getTeacher().getIdTeacher());
+        course.setTeacher(teacherRepository.getReferenceById(teacher.getIdTeacher()));
 
-        Course updated = repository.save(course);
-        return ModelMapperConfig.map(updated, CourseResponseDto.class);
+        Course updated = saveAndFlush(course);
+        if (!Objects.equals(creditsBefore, updated.getCredits())) {
+            summaryService.rebuild(matriculationRepository.findStudentIdsByCourseId(id));
+        }
+        conflictIndex.assignTeacher(id, teacher.getIdTeacher());
+        CourseResponseDto response = courseMapper.toResponse(updated, teacher);
+        searchService.index(response);
+        return response;
+    }
+
+    // Flags the course and its matriculations; their students' summaries and its grade counts are recomputed
+    // without them, and the rows, schedules and evaluations included, are removed by the background purge
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
+    public void delete(Long id) {
+        List<Long> idStudents = matriculationRepository.findStudentIdsByCourseId(id);
+        super.delete(id);
+        matriculationRepository.softDeleteByCourseIds(List.of(id));
+        summaryService.rebuild(idStudents);
+        statisticsService.rebuild(List.of(id));
+        conflictIndex.releaseCourse(id);
+        searchService.remove(SearchType.COURSE, id);
+        purgeService.purgeAfterCommit();
     }
 }
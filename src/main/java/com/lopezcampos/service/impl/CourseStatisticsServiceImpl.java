@@ -0,0 +1,106 @@
+package com.lopezcampos.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lopezcampos.config.CacheConfig;
+import com.lopezcampos.dto.response.CourseStatisticsResponseDto;
+import com.lopezcampos.dto.response.SummaryRebuildResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.model.CourseGradeCountId;
+import com.lopezcampos.repository.CourseGradeCountRepository;
+import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.service.summary.GradeDistribution;
+import com.lopezcampos.service.summary.GradeEntry;
+
+@Service
+public class CourseStatisticsServiceImpl {
+
+    // Bounds the IN list of a partial rebuild
+    private static final int REBUILD_BATCH = 500;
+
+    private final CourseGradeCountRepository gradeCountRepository;
+    private final CourseRepository courseRepository;
+    // Transaction-aware (CacheConfig): evictions wait for the commit, so a concurrent miss can't cache
+    // counts from before the write
+    private final Cache distributions;
+
+    public CourseStatisticsServiceImpl(CourseGradeCountRepository gradeCountRepository, CourseRepository courseRepository,
+                                       CacheManager cacheManager) {
+        this.gradeCountRepository = gradeCountRepository;
+        this.courseRepository = courseRepository;
+        this.distributions = cacheManager.getCache(CacheConfig.COURSE_STATISTICS);
+    }
+
+    // Served from the cached distribution; a miss reads the course's grade counts, never its evaluations.
+    // A miss is cached, so it runs read-write, on the primary, never on a replica that may be behind
+    @Transactional
+    public CourseStatisticsResponseDto getStatistics(Long idCourse, String academicPeriod) {
+        GradeDistribution distribution = distributions.get(idCourse, GradeDistribution.class);
+        if (distribution == null) {
+            if (!courseRepository.existsById(idCourse)) {
+                throw new NotFoundException("Course not found with id " + idCourse);
+            }
+            distribution = distributions.get(idCourse,
+                    () -> new GradeDistribution(gradeCountRepository.findByCourse(idCourse)));
+        }
+        return distribution.statistics(idCourse, academicPeriod);
+    }
+
+    // MANDATORY: counts only move together with the evaluation write that caused them
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long idCourse, String academicPeriod, GradeEntry entry, long evaluations) {
+        if (entry.grade() == null || evaluations == 0) {
+            return;
+        }
+        gradeCountRepository.addCount(idCourse, orNone(academicPeriod), orNone(entry.typeEvaluation()),
+                entry.grade(), evaluations);
+        distributions.evict(idCourse);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long fromCourse, String fromPeriod, GradeEntry before,
+                     Long toCourse, String toPeriod, GradeEntry after) {
+        if (Objects.equals(fromCourse, toCourse) && Objects.equals(fromPeriod, toPeriod) && before.equals(after)) {
+            return;
+        }
+        add(fromCourse, fromPeriod, before, -1);
+        add(toCourse, toPeriod, after, 1);
+    }
+
+    // Backfill: recompute every course's grade counts with one GROUP BY over evaluations
+    @Transactional
+    public SummaryRebuildResponseDto rebuild() {
+        long start = System.nanoTime();
+        gradeCountRepository.deleteAllInBatch();
+        int rows = gradeCountRepository.insertCounts();
+        distributions.clear();
+        return SummaryRebuildResponseDto.builder()
+                .summaries(rows)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    // For writes that move many evaluations at once, e.g. a cascading student or course delete
+    @Transactional
+    public void rebuild(Collection<Long> idCourses) {
+        List<Long> ids = List.copyOf(idCourses);
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + REBUILD_BATCH, ids.size()));
+            gradeCountRepository.deleteByCourses(batch);
+            gradeCountRepository.insertCounts(batch);
+        }
+        ids.forEach(distributions::evict);
+    }
+
+    private static String orNone(String value) {
+        return value == null ? CourseGradeCountId.NONE : value;
+    }
+}
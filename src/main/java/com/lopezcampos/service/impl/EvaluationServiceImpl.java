@@ -1,88 +1,150 @@
 package com.lopezcampos.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.lopezcampos.config.ModelMapperConfig;
 import com.lopezcampos.dto.request.EvaluationRequestDto;
 import com.lopezcampos.dto.response.EvaluationResponseDto;
 import com.lopezcampos.exception.base.NotFoundException;
 import com.lopezcampos.exception.evaluations.NegativeGradeException;
-import com.lopezcampos.model.Course;
+import com.lopezcampos.mapper.EvaluationMapper;
 import com.lopezcampos.model.Evaluation;
 import com.lopezcampos.model.Matriculation;
-import com.lopezcampos.model.Student;
+import com.lopezcampos.model.StudentSummaryId;
 import com.lopezcampos.repository.EvaluationRepository;
 import com.lopezcampos.repository.MatriculationRepository;
+import com.lopezcampos.service.export.ExportFormat;
+import com.lopezcampos.service.export.ExportWriter;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.summary.GradeEntry;
+import com.lopezcampos.service.summary.SummaryDelta;
 
 @Service
 public class EvaluationServiceImpl
         extends AbstractCrudService<Evaluation, Long, EvaluationRequestDto, EvaluationResponseDto, EvaluationRepository> {
 
     private final MatriculationRepository matriculationRepository;
-
-    public EvaluationServiceImpl(EvaluationRepository repository, MatriculationRepository matriculationRepository) {
-        super(repository, Evaluation.class, EvaluationResponseDto.class);
+    private final CourseServiceImpl courseService;
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+    private final ExportWriter exportWriter;
+
+    public EvaluationServiceImpl(EvaluationRepository repository, MatriculationRepository matriculationRepository,
+                                 CourseServiceImpl courseService, StudentSummaryServiceImpl summaryService,
+                                 CourseStatisticsServiceImpl statisticsService, EvaluationMapper evaluationMapper,
+                                 ExportWriter exportWriter) {
+        super(repository, evaluationMapper, EvaluationResponseDto::getIdEvaluation);
         this.matriculationRepository = matriculationRepository;
+        this.courseService = courseService;
+        this.summaryService = summaryService;
+        this.statisticsService = statisticsService;
+        this.exportWriter = exportWriter;
     }
 
     @Override
+    @Transactional
     public EvaluationResponseDto create(EvaluationRequestDto requestDto) {
         if (requestDto.getGrade().compareTo(BigDecimal.ZERO) < 0) {
             throw new NegativeGradeException();
         }
 
-        Evaluation evaluation = ModelMapperConfig.map(requestDto, Evaluation.class);
+        Evaluation evaluation = mapper.toEntity(requestDto);
 
-        Matriculation matriculation = matriculationRepository.findById(requestDto.getMatriculationId())
+        Matriculation matriculation = matriculationRepository.findWithStudentAndCourseById(requestDto.getMatriculationId())
                 .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + requestDto.getMatriculationId()));
         evaluation.setMatriculation(matriculation);
 
         Evaluation saved = repository.save(evaluation);
-        return buildResponse(saved);
+        summaryService.apply(summaryKey(matriculation), contribution(saved));
+        statisticsService.add(courseId(matriculation), matriculation.getAcademicPeriod(), gradeEntry(saved), 1);
+        return mapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional
+    public EvaluationResponseDto update(Long id, EvaluationRequestDto requestDto, Long expectedVersion) {
+        return write(id, expectedVersion, requestDto.getMatriculationId(),
+                evaluation -> mapper.updateEntity(requestDto, evaluation));
     }
 
     @Override
-    public EvaluationResponseDto update(Long id, EvaluationRequestDto requestDto) {
+    @Transactional
+    public EvaluationResponseDto patch(Long id, EvaluationRequestDto changes, Long expectedVersion) {
+        return write(id, expectedVersion, changes.getMatriculationId(),
+                evaluation -> mapper.patchEntity(changes, evaluation));
+    }
+
+    // Old and new contribution are taken before and after the change, the read models get the difference
+    // (none for a date-only change). Only a move to another matriculation reads that one; a null id keeps it.
+    private EvaluationResponseDto write(Long id, Long expectedVersion, Long matriculationId,
+                                        Consumer<Evaluation> changes) {
         Evaluation evaluation = repository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Evaluation not found with id " + id));
+        checkVersion(id, evaluation, expectedVersion);
+        Matriculation before = evaluation.getMatriculation();
+        SummaryDelta contributionBefore = contribution(evaluation);
+        GradeEntry entryBefore = gradeEntry(evaluation);
 
-        evaluation.setTypeEvaluation(requestDto.getTypeEvaluation());
-        evaluation.setDate(requestDto.getDate());
-        evaluation.setGrade(requestDto.getGrade());
+        changes.accept(evaluation);
+        if (evaluation.getGrade() != null && evaluation.getGrade().compareTo(BigDecimal.ZERO) < 0) {
+            throw new NegativeGradeException();
+        }
 
-        Matriculation matriculation = matriculationRepository.findById(requestDto.getMatriculationId())
-                .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + requestDto.getMatriculationId()));
-        evaluation.setMatriculation(matriculation);
+        Matriculation matriculation = before;
+        if (matriculationId != null && !matriculationId.equals(before.getIdMatriculation())) {
+            matriculation = matriculationRepository.findWithStudentAndCourseById(matriculationId)
+                    .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + matriculationId));
+            evaluation.setMatriculation(matriculation);
+        }
 
-        Evaluation updated = repository.save(evaluation);
-        return buildResponse(updated);
+        // Flushed so the response carries the incremented version
+        Evaluation updated = saveAndFlush(evaluation);
+        summaryService.move(summaryKey(before), contributionBefore, summaryKey(matriculation), contribution(updated));
+        statisticsService.move(courseId(before), before.getAcademicPeriod(), entryBefore,
+                courseId(matriculation), matriculation.getAcademicPeriod(), gradeEntry(updated));
+        return mapper.toResponse(updated);
     }
 
-    private EvaluationResponseDto buildResponse(Evaluation evaluation) {
-        EvaluationResponseDto dto = new EvaluationResponseDto();
-        dto.setIdEvaluation(evaluation.getIdEvaluation());
-        dto.setTypeEvaluation(evaluation.getTypeEvaluation());
-        dto.setDate(evaluation.getDate());
-        dto.setGrade(evaluation.getGrade());
-
-        if (evaluation.getMatriculation() != null) {
-            Student student = evaluation.getMatriculation().getStudent();
-            Course course = evaluation.getMatriculation().getCourse();
-
-            if (student != null) {
-                dto.setStudentName(student.getName());
-                dto.setStudentSurname(student.getSurname());
-            }
-            if (course != null) {
-                dto.setCourseName(course.getName());
-                dto.setCourseCode(course.getCode());
-            }
-        }
-        return dto;
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Evaluation evaluation = repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Evaluation not found with id " + id));
+        Matriculation matriculation = evaluation.getMatriculation();
+        summaryService.apply(summaryKey(matriculation), contribution(evaluation).negate());
+        statisticsService.add(courseId(matriculation), matriculation.getAcademicPeriod(), gradeEntry(evaluation), -1);
+        repository.delete(evaluation);
+    }
+
+    private static StudentSummaryId summaryKey(Matriculation matriculation) {
+        return StudentSummaryId.of(matriculation.getStudent().getIdStudent(), matriculation.getAcademicPeriod());
+    }
+
+    private static Long courseId(Matriculation matriculation) {
+        return matriculation.getCourse().getIdCourse();
+    }
+
+    private static GradeEntry gradeEntry(Evaluation evaluation) {
+        return new GradeEntry(evaluation.getTypeEvaluation(), evaluation.getGrade());
     }
 
+    // Credits come from the course cache, the lazy course reference stays uninitialized
+    private SummaryDelta contribution(Evaluation evaluation) {
+        Integer credits = courseService.getById(courseId(evaluation.getMatriculation())).getCredits();
+        return SummaryDelta.ofEvaluation(evaluation.getGrade(), credits);
+    }
 
+    // Forward-only DTO stream: rows never enter the persistence context, so memory stays flat
+    @Transactional(readOnly = true)
+    public long export(String academicPeriod, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EvaluationResponseDto> rows = repository.streamResponses(academicPeriod)) {
+            return exportWriter.write(rows, EvaluationResponseDto.class, format, out);
+        }
+    }
 }
@@ -1,86 +1,178 @@
 package com.lopezcampos.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.lopezcampos.config.ModelMapperConfig;
 import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
 import com.lopezcampos.dto.response.MatriculationResponseDto;
 import com.lopezcampos.exception.base.NotFoundException;
-import com.lopezcampos.model.Course;
+import com.lopezcampos.mapper.MatriculationMapper;
 import com.lopezcampos.model.Matriculation;
 import com.lopezcampos.model.Student;
+import com.lopezcampos.model.StudentSummaryId;
 import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.EvaluationRepository;
 import com.lopezcampos.repository.MatriculationRepository;
 import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.service.export.ExportFormat;
+import com.lopezcampos.service.export.ExportWriter;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.schedule.Enrollment;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+import com.lopezcampos.service.summary.GradeEntry;
+import com.lopezcampos.service.summary.SummaryDelta;
 
 @Service
 public class MatriculationServiceImpl
         extends AbstractCrudService<Matriculation, Long, MatriculationRequestDto, MatriculationResponseDto, MatriculationRepository> {
 
+    private final MatriculationMapper matriculationMapper;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final EvaluationRepository evaluationRepository;
+    private final CourseServiceImpl courseService;
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+    private final ScheduleConflictIndex conflictIndex;
+    private final ExportWriter exportWriter;
+    private final PurgeServiceImpl purgeService;
 
     public MatriculationServiceImpl(MatriculationRepository repository,
                                     StudentRepository studentRepository,
-                                    CourseRepository courseRepository) {
-        super(repository, Matriculation.class, MatriculationResponseDto.class);
+                                    CourseRepository courseRepository,
+                                    EvaluationRepository evaluationRepository,
+                                    CourseServiceImpl courseService,
+                                    StudentSummaryServiceImpl summaryService,
+                                    CourseStatisticsServiceImpl statisticsService,
+                                    ScheduleConflictIndex conflictIndex,
+                                    MatriculationMapper matriculationMapper,
+                                    ExportWriter exportWriter,
+                                    PurgeServiceImpl purgeService) {
+        super(repository, matriculationMapper, MatriculationResponseDto::getIdMatriculation);
+        this.matriculationMapper = matriculationMapper;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.evaluationRepository = evaluationRepository;
+        this.courseService = courseService;
+        this.summaryService = summaryService;
+        this.statisticsService = statisticsService;
+        this.conflictIndex = conflictIndex;
+        this.exportWriter = exportWriter;
+        this.purgeService = purgeService;
     }
 
+    // Enrollments only check the course against the cache and link it by reference;
+    // the student's timetable is checked against the in-memory schedule index
     @Override
+    @Transactional
     public MatriculationResponseDto create(MatriculationRequestDto requestDto) {
 
-        Matriculation matriculation = new Matriculation();
-        matriculation.setAcademicPeriod(requestDto.getAcademicPeriod());
-        matriculation.setMatriculationDate(requestDto.getMatriculationDate());
-        matriculation.setMatriculationStatus(requestDto.getMatriculationStatus());
+        Matriculation matriculation = mapper.toEntity(requestDto);
 
         Student student = studentRepository.findById(requestDto.getStudentId())
                 .orElseThrow(() -> new NotFoundException("Student not found with id " + requestDto.getStudentId()));
-        Course course = courseRepository.findById(requestDto.getCourseId())
-                .orElseThrow(() -> new NotFoundException("Course not found with id " + requestDto.getCourseId()));
+        CourseResponseDto course = courseService.getById(requestDto.getCourseId());
 
         matriculation.setStudent(student);
-        matriculation.setCourse(course);
+        matriculation.setCourse(courseRepository.getReferenceById(course.getIdCourse()));
 
         Matriculation saved = repository.save(matriculation);
+        conflictIndex.reserve(Enrollment.of(saved));
+        saveAndFlush(saved);
+        summaryService.apply(summaryKey(saved), SummaryDelta.ofMatriculation(course.getCredits(), List.of()));
 
-        return buildResponseDto(saved);
+        return matriculationMapper.toResponse(saved, course);
     }
 
     @Override
-    public MatriculationResponseDto update(Long id, MatriculationRequestDto requestDto) {
-
-        Matriculation existing = repository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + id));
-
-        existing.setAcademicPeriod(requestDto.getAcademicPeriod());
-        existing.setMatriculationDate(requestDto.getMatriculationDate());
-        existing.setMatriculationStatus(requestDto.getMatriculationStatus());
-
-        Student student = studentRepository.findById(requestDto.getStudentId())
-                .orElseThrow(() -> new NotFoundException("Student not found with id " + requestDto.getStudentId()));
-        Course course = courseRepository.findById(requestDto.getCourseId())
-                .orElseThrow(() -> new NotFoundException("Course not found with id " + requestDto.getCourseId()));
-
-        existing.setStudent(student);
-        existing.setCourse(course);
+    @Transactional
+    public MatriculationResponseDto update(Long id, MatriculationRequestDto requestDto, Long expectedVersion) {
+        return write(id, expectedVersion, requestDto.getStudentId(), requestDto.getCourseId(),
+                matriculation -> mapper.updateEntity(requestDto, matriculation));
+    }
 
-        Matriculation saved = repository.save(existing);
+    @Override
+    @Transactional
+    public MatriculationResponseDto patch(Long id, MatriculationRequestDto changes, Long expectedVersion) {
+        return write(id, expectedVersion, changes.getStudentId(), changes.getCourseId(),
+                matriculation -> mapper.patchEntity(changes, matriculation));
+    }
 
-        return buildResponseDto(saved);
+    // The matriculation carries its evaluations along when it changes student, period or course; a status or
+    // date change reads nothing else and leaves the read models alone. A null id keeps that parent.
+    private MatriculationResponseDto write(Long id, Long expectedVersion, Long studentId, Long courseId,
+                                           Consumer<Matriculation> changes) {
+        Matriculation existing = repository.findWithStudentById(id)
+                .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + id));
+        checkVersion(id, existing, expectedVersion);
+        StudentSummaryId keyBefore = summaryKey(existing);
+        Long courseBefore = existing.getCourse().getIdCourse();
+        String periodBefore = existing.getAcademicPeriod();
+        CourseResponseDto course = courseService.getById(courseBefore);
+        Integer creditsBefore = course.getCredits();
+
+        changes.accept(existing);
+
+        if (studentId != null && !studentId.equals(keyBefore.getIdStudent())) {
+            Student student = studentRepository.findById(studentId)
+                    .orElseThrow(() -> new NotFoundException("Student not found with id " + studentId));
+            existing.setStudent(student);
+        }
+        if (courseId != null && !courseId.equals(courseBefore)) {
+            course = courseService.getById(courseId);
+            existing.setCourse(courseRepository.getReferenceById(course.getIdCourse()));
+        }
+        conflictIndex.reserve(Enrollment.of(existing));
+
+        // Flushed so the response carries the incremented version
+        Matriculation saved = saveAndFlush(existing);
+        if (!summaryKey(saved).equals(keyBefore) || !course.getIdCourse().equals(courseBefore)) {
+            List<GradeEntry> evaluations = evaluationRepository.findGradeEntriesByMatriculationId(id);
+            summaryService.move(keyBefore, SummaryDelta.ofMatriculation(creditsBefore, evaluations),
+                    summaryKey(saved), SummaryDelta.ofMatriculation(course.getCredits(), evaluations));
+            for (GradeEntry evaluation : evaluations) {
+                statisticsService.move(courseBefore, periodBefore, evaluation,
+                        course.getIdCourse(), saved.getAcademicPeriod(), evaluation);
+            }
+        }
+
+        return matriculationMapper.toResponse(saved, course);
     }
 
-    private MatriculationResponseDto buildResponseDto(Matriculation matriculation) {
-        MatriculationResponseDto dto = ModelMapperConfig.map(matriculation, MatriculationResponseDto.class);
+    // Flagged, not deleted: its evaluations stay until the background purge, so their share of the read models goes now
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Matriculation existing = repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Matriculation not found with id " + id));
+        Long idCourse = existing.getCourse().getIdCourse();
+        Integer credits = courseService.getById(idCourse).getCredits();
+        List<GradeEntry> evaluations = evaluationRepository.findGradeEntriesByMatriculationId(id);
+        summaryService.apply(summaryKey(existing), SummaryDelta.ofMatriculation(credits, evaluations).negate());
+        for (GradeEntry evaluation : evaluations) {
+            statisticsService.add(idCourse, existing.getAcademicPeriod(), evaluation, -1);
+        }
+        repository.delete(existing);
+        conflictIndex.releaseEnrollment(id);
+        purgeService.purgeAfterCommit();
+    }
 
-        dto.setStudentName(matriculation.getStudent().getName());
-        dto.setStudentSurname(matriculation.getStudent().getSurname());
-        dto.setCourseName(matriculation.getCourse().getName());
-        dto.setCourseCode(matriculation.getCourse().getCode());
+    private static StudentSummaryId summaryKey(Matriculation matriculation) {
+        return StudentSummaryId.of(matriculation.getStudent().getIdStudent(), matriculation.getAcademicPeriod());
+    }
 
-        return dto;
+    // Forward-only DTO stream: rows never enter the persistence context, so memory stays flat
+    @Transactional(readOnly = true)
+    public long export(String academicPeriod, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<MatriculationResponseDto> rows = repository.streamResponses(academicPeriod)) {
+            return exportWriter.write(rows, MatriculationResponseDto.class, format, out);
+        }
     }
 }
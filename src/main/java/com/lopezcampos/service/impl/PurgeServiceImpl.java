@@ -0,0 +1,212 @@
+package com.lopezcampos.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lopezcampos.dto.response.PurgeStatusResponseDto;
+import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.EvaluationRepository;
+import com.lopezcampos.repository.MatriculationRepository;
+import com.lopezcampos.repository.ScheduleRepository;
+import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.repository.TeacherRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background removal of soft-deleted rows. A delete only flags the row and its matriculations, so it
+ * commits at once; the purge then removes flagged rows and everything under them bottom-up, in chunks of
+ * chunkSize ids with one short transaction per chunk. It runs after every committed delete and on a fixed
+ * delay, which also picks up work a restart interrupted.
+ */
+@Slf4j
+@Service
+public class PurgeServiceImpl implements SmartInitializingSingleton, DisposableBean {
+
+    private final TransactionTemplate transactionTemplate;
+    private final List<Phase> phases;
+    private final Map<String, LongSupplier> tombstones = new LinkedHashMap<>();
+    private final int chunkSize;
+    private final boolean enabled;
+    private final Duration interval;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    private volatile boolean running;
+    private volatile String currentTable;
+    private volatile Instant lastStartedAt;
+    private volatile Instant lastFinishedAt;
+    private volatile String lastError;
+
+    public PurgeServiceImpl(EvaluationRepository evaluationRepository, MatriculationRepository matriculationRepository,
+                            ScheduleRepository scheduleRepository, CourseRepository courseRepository,
+                            StudentRepository studentRepository, TeacherRepository teacherRepository,
+                            TransactionTemplate transactionTemplate, MeterRegistry registry,
+                            @Value("${educateapp.purge.chunk-size:500}") int chunkSize,
+                            @Value("${educateapp.purge.enabled:true}") boolean enabled,
+                            @Value("${educateapp.purge.interval:10m}") Duration interval) {
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+        this.interval = interval;
+
+        // Foreign key order: a row goes only once nothing references it
+        this.phases = List.of(
+                new Phase("evaluations", evaluationRepository::findPurgeableIds, evaluationRepository::purge, registry),
+                new Phase("matriculations", matriculationRepository::findPurgeableIds, matriculationRepository::purge, registry),
+                new Phase("schedules", scheduleRepository::findPurgeableIds, scheduleRepository::purge, registry),
+                new Phase("courses", courseRepository::findPurgeableIds, courseRepository::purge, registry),
+                new Phase("students", studentRepository::findPurgeableIds, studentRepository::purge, registry),
+                new Phase("teachers", teacherRepository::findPurgeableIds, teacherRepository::purge, registry));
+        tombstones.put("matriculations", matriculationRepository::countTombstones);
+        tombstones.put("courses", courseRepository::countTombstones);
+        tombstones.put("students", studentRepository::countTombstones);
+        tombstones.put("teachers", teacherRepository::countTombstones);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("tombstone-purge").daemon(true).factory());
+    }
+
+    // Fixed delay, so a long purge never overlaps the next one; the first also clears what a restart left
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            long delay = interval.toMillis();
+            executor.scheduleWithFixedDelay(this::runQuietly, 0, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // Called inside the deleting transaction: the purge must not start before the flags are committed
+    public void purgeAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestPurge();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestPurge();
+            }
+        });
+    }
+
+    // A burst of deletes queues a single run; one that starts later sees all of their flags
+    public void requestPurge() {
+        if (queued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                queued.set(false);
+                runQuietly();
+            });
+        }
+    }
+
+    public synchronized PurgeStatusResponseDto purge() {
+        running = true;
+        lastStartedAt = Instant.now();
+        lastError = null;
+        try {
+            for (Phase phase : phases) {
+                currentTable = phase.table();
+                purge(phase);
+            }
+        } catch (RuntimeException ex) {
+            lastError = ex.getMessage();
+            throw ex;
+        } finally {
+            currentTable = null;
+            running = false;
+            lastFinishedAt = Instant.now();
+        }
+        return getStatus();
+    }
+
+    public PurgeStatusResponseDto getStatus() {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        tombstones.forEach((table, count) -> pending.put(table, count.getAsLong()));
+        Map<String, Long> purged = new LinkedHashMap<>();
+        phases.forEach(phase -> purged.put(phase.table(), (long) phase.rows().count()));
+        return PurgeStatusResponseDto.builder()
+                .running(running)
+                .currentTable(currentTable)
+                .lastStartedAt(lastStartedAt)
+                .lastFinishedAt(lastFinishedAt)
+                .lastError(lastError)
+                .tombstones(pending)
+                .purgedRows(purged)
+                .build();
+    }
+
+    private void runQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException ex) {
+            // Left flagged; the next run retries
+            log.warn("Tombstone purge failed on {}: {}", currentTable, ex.getMessage());
+        }
+    }
+
+    // Stops at the first short chunk: a chunk that found fewer rows than it asked for was the last one
+    private void purge(Phase phase) {
+        long start = System.nanoTime();
+        long total = 0;
+        int chunks = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = phase.select().apply(chunkSize);
+                return ids.isEmpty() ? 0 : phase.delete().applyAsInt(ids);
+            });
+            if (deleted > 0) {
+                total += deleted;
+                chunks++;
+                phase.rows().increment(deleted);
+                log.debug("Purged {} {} rows, {} so far", deleted, phase.table(), total);
+            }
+        } while (deleted == chunkSize);
+        if (total > 0) {
+            log.info("Purged {} {} rows in {} chunks, {} ms", total, phase.table(), chunks,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private record Phase(String table, IntFunction<List<Long>> select, ToIntFunction<Collection<Long>> delete,
+                         Counter rows) {
+
+        private Phase(String table, IntFunction<List<Long>> select, ToIntFunction<Collection<Long>> delete,
+                      MeterRegistry registry) {
+            this(table, select, delete, Counter.builder("educateapp.purge.rows")
+                    .description("Soft-deleted rows removed by the background purge")
+                    .tag("table", table)
+                    .register(registry));
+        }
+    }
+}
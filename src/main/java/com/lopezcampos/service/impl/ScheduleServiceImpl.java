@@ -1,37 +1,91 @@
 package com.lopezcampos.service.impl;
 
+import java.util.function.Consumer;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.lopezcampos.config.ModelMapperConfig;
 import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
 import com.lopezcampos.dto.response.ScheduleResponseDto;
 import com.lopezcampos.exception.base.NotFoundException;
-import com.lopezcampos.model.Course;
+import com.lopezcampos.mapper.ScheduleMapper;
 import com.lopezcampos.model.Schedule;
 import com.lopezcampos.repository.CourseRepository;
 import com.lopezcampos.repository.ScheduleRepository;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+import com.lopezcampos.service.schedule.ScheduleSlot;
 
 @Service
 public class ScheduleServiceImpl
         extends AbstractCrudService<Schedule, Long, ScheduleRequestDto, ScheduleResponseDto, ScheduleRepository> {
 
+    private final ScheduleMapper scheduleMapper;
     private final CourseRepository courseRepository;
+    private final CourseServiceImpl courseService;
+    private final ScheduleConflictIndex conflictIndex;
 
-    public ScheduleServiceImpl(ScheduleRepository repository, CourseRepository courseRepository) {
-        super(repository, Schedule.class, ScheduleResponseDto.class);
+    public ScheduleServiceImpl(ScheduleRepository repository, CourseRepository courseRepository,
+                               CourseServiceImpl courseService, ScheduleConflictIndex conflictIndex,
+                               ScheduleMapper scheduleMapper) {
+        super(repository, scheduleMapper, ScheduleResponseDto::getIdSchedule);
+        this.scheduleMapper = scheduleMapper;
         this.courseRepository = courseRepository;
+        this.courseService = courseService;
+        this.conflictIndex = conflictIndex;
     }
 
+    // The classroom and teacher checks run against the in-memory index; a clash throws before the insert is flushed
     @Override
+    @Transactional
     public ScheduleResponseDto create(ScheduleRequestDto requestDto) {
-        Schedule schedule = ModelMapperConfig.map(requestDto, Schedule.class);
+        ScheduleConflictIndex.validate(requestDto.getStartTime(), requestDto.getEndTime());
+        Schedule schedule = mapper.toEntity(requestDto);
 
-        Course course = courseRepository.findById(requestDto.getCourseId())
-                .orElseThrow(() -> new NotFoundException("Course not found with id " + requestDto.getCourseId()));
-        schedule.setCourse(course);
+        CourseResponseDto course = courseService.getById(requestDto.getCourseId());
+        schedule.setCourse(courseRepository.getReferenceById(course.getIdCourse()));
 
         Schedule saved = repository.save(schedule);
-        return ModelMapperConfig.map(saved, ScheduleResponseDto.class);
+        conflictIndex.reserve(ScheduleSlot.of(saved, course.getIdCourse()));
+        return scheduleMapper.toResponse(saveAndFlush(saved), course);
+    }
+
+    @Override
+    @Transactional
+    public ScheduleResponseDto update(Long id, ScheduleRequestDto requestDto, Long expectedVersion) {
+        return write(id, expectedVersion, requestDto.getCourseId(), schedule -> mapper.updateEntity(requestDto, schedule));
+    }
+
+    @Override
+    @Transactional
+    public ScheduleResponseDto patch(Long id, ScheduleRequestDto changes, Long expectedVersion) {
+        return write(id, expectedVersion, changes.getCourseId(), schedule -> mapper.patchEntity(changes, schedule));
+    }
+
+    // The slot is checked as it ends up, so a PATCH of one end is validated against the other; a null courseId keeps the course
+    private ScheduleResponseDto write(Long id, Long expectedVersion, Long courseId, Consumer<Schedule> changes) {
+        Schedule existing = repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Schedule not found with id " + id));
+        checkVersion(id, existing, expectedVersion);
+
+        changes.accept(existing);
+        ScheduleConflictIndex.validate(existing.getStartTime(), existing.getEndTime());
+
+        CourseResponseDto course = courseService.getById(
+                courseId != null ? courseId : existing.getCourse().getIdCourse());
+        existing.setCourse(courseRepository.getReferenceById(course.getIdCourse()));
+
+        conflictIndex.reserve(ScheduleSlot.of(existing, course.getIdCourse()));
+        // Flushed so the response carries the incremented version
+        Schedule saved = saveAndFlush(existing);
+        return scheduleMapper.toResponse(saved, course);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        super.delete(id);
+        conflictIndex.releaseSchedule(id);
     }
 }
@@ -0,0 +1,148 @@
+package com.lopezcampos.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.SearchIndexStatsDto;
+import com.lopezcampos.dto.response.SearchResponseDto;
+import com.lopezcampos.dto.response.SearchResultDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.ResponseProjectionRepository;
+import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.repository.TeacherRepository;
+import com.lopezcampos.service.search.SearchDocument;
+import com.lopezcampos.service.search.SearchHit;
+import com.lopezcampos.service.search.SearchIndex;
+import com.lopezcampos.service.search.SearchType;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class SearchServiceImpl implements SmartInitializingSingleton {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    // Keyset page size of the startup load
+    private static final int LOAD_BATCH = 1_000;
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final SearchIndex index = new SearchIndex();
+
+    public SearchServiceImpl(StudentRepository studentRepository, TeacherRepository teacherRepository,
+                             CourseRepository courseRepository) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.courseRepository = courseRepository;
+    }
+
+    // Loaded before the web server starts, so the first search already sees every row
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public void reload() {
+        long start = System.nanoTime();
+        index.clear();
+        load(studentRepository, StudentResponseDto::getIdStudent, SearchDocument::ofStudent);
+        load(teacherRepository, TeacherResponseDto::getIdTeacher, SearchDocument::ofTeacher);
+        load(courseRepository, CourseResponseDto::getIdCourse, SearchDocument::ofCourse);
+        SearchIndexStatsDto stats = index.stats();
+        log.info("Search index loaded: {} documents, {} terms, ~{} KB in {} ms", stats.getDocuments(),
+                stats.getTerms(), stats.getEstimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public SearchResponseDto search(String query, SearchType type, Integer limit) {
+        long start = System.nanoTime();
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, SearchIndex.MAX_LIMIT));
+        List<SearchResultDto> results = index.search(query, type, size).stream()
+                .map(SearchServiceImpl::toResult)
+                .toList();
+        return SearchResponseDto.builder()
+                .query(query)
+                .results(results)
+                .tookMicros((System.nanoTime() - start) / 1_000)
+                .build();
+    }
+
+    public SearchIndexStatsDto stats() {
+        return index.stats();
+    }
+
+    // Index writes wait for the commit, so a rolled back write never shows up in results
+    public void index(StudentResponseDto student) {
+        afterCommit(() -> index.put(SearchDocument.ofStudent(student)));
+    }
+
+    public void index(TeacherResponseDto teacher) {
+        afterCommit(() -> index.put(SearchDocument.ofTeacher(teacher)));
+    }
+
+    public void index(CourseResponseDto course) {
+        afterCommit(() -> index.put(SearchDocument.ofCourse(course)));
+    }
+
+    public void indexStudents(Collection<StudentResponseDto> students) {
+        List<SearchDocument> documents = students.stream().map(SearchDocument::ofStudent).toList();
+        afterCommit(() -> index.putAll(documents));
+    }
+
+    public void remove(SearchType type, Long id) {
+        afterCommit(() -> index.remove(type, id));
+    }
+
+    public void remove(SearchType type, Collection<Long> ids) {
+        afterCommit(() -> ids.forEach(id -> index.remove(type, id)));
+    }
+
+    private <RES> void load(ResponseProjectionRepository<RES, Long> repository, Function<RES, Long> key,
+                            Function<RES, SearchDocument> document) {
+        Long after = null;
+        List<RES> page;
+        do {
+            page = repository.findResponsesAfter(after, Limit.of(LOAD_BATCH));
+            index.putAll(page.stream().map(document).toList());
+            if (!page.isEmpty()) {
+                after = key.apply(page.get(page.size() - 1));
+            }
+        } while (page.size() == LOAD_BATCH);
+    }
+
+    private static SearchResultDto toResult(SearchHit hit) {
+        SearchDocument document = hit.document();
+        return SearchResultDto.builder()
+                .type(document.type().name())
+                .id(document.id())
+                .label(document.label())
+                .detail(document.detail())
+                .score(Math.round(hit.score() * 1000) / 1000.0)
+                .build();
+    }
+
+    // Runs right away when there is no transaction, e.g. the non-transactional creates
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,205 @@
+package com.lopezcampos.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.response.ImportReportDto;
+import com.lopezcampos.dto.response.ImportRowErrorDto;
+import com.lopezcampos.mapper.StudentMapper;
+import com.lopezcampos.model.Student;
+import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.service.export.ExportFormat;
+import com.lopezcampos.service.export.ImportReader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class StudentImportServiceImpl {
+
+    public static final int CHUNK_SIZE = 500;
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final ImportReader importReader;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final SearchServiceImpl searchService;
+
+    public StudentImportServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                                    ImportReader importReader, Validator validator,
+                                    TransactionTemplate transactionTemplate, EntityManager entityManager,
+                                    SearchServiceImpl searchService) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.importReader = importReader;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.searchService = searchService;
+    }
+
+    // Only one chunk of rows is held at a time; each chunk commits on its own, so a bad row never aborts the file
+    public ImportReportDto importStudents(InputStream in, ExportFormat format) throws IOException {
+        Report report = new Report();
+        Set<String> seenDnis = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (MappingIterator<StudentRequestDto> rows = importReader.read(in, StudentRequestDto.class, format)) {
+            long number = 0;
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    number++;
+                    chunk.add(new ImportRow(number, rows.nextValue()));
+                } catch (JsonParseException ex) {
+                    report.reject(number, null, List.of("Malformed input, import stopped: " + ex.getOriginalMessage()));
+                    break;
+                } catch (JsonMappingException ex) {
+                    report.reject(number, null, List.of("Unreadable row: " + ex.getOriginalMessage()));
+                    continue;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, report, seenDnis, seenEmails);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report, seenDnis, seenEmails);
+        }
+        return report.toDto();
+    }
+
+    private void importChunk(List<ImportRow> chunk, Report report, Set<String> seenDnis, Set<String> seenEmails) {
+        // Bean validation is CPU-only and thread-safe; toList keeps the chunk order
+        List<List<String>> violations = chunk.parallelStream()
+                .map(row -> messages(validator.validate(row.dto())))
+                .toList();
+
+        List<ImportRow> valid = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (violations.get(i).isEmpty()) {
+                valid.add(chunk.get(i));
+            } else {
+                report.reject(chunk.get(i), violations.get(i));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingDnis = new HashSet<>(studentRepository.findExistingDnis(
+                valid.stream().map(row -> row.dto().getDni()).toList()));
+        Set<String> existingEmails = studentRepository.findExistingEmails(
+                        valid.stream().map(row -> row.dto().getEmail()).toList())
+                .stream().map(ImportRow::normalize).collect(Collectors.toSet());
+
+        List<ImportRow> accepted = new ArrayList<>(valid.size());
+        for (ImportRow row : valid) {
+            String dni = row.dto().getDni();
+            String email = ImportRow.normalize(row.dto().getEmail());
+            List<String> duplicates = new ArrayList<>(2);
+            if (existingDnis.contains(dni) || seenDnis.contains(dni)) {
+                duplicates.add("Duplicate DNI: " + dni);
+            }
+            if (existingEmails.contains(email) || seenEmails.contains(email)) {
+                duplicates.add("Duplicate email: " + row.dto().getEmail());
+            }
+            if (duplicates.isEmpty()) {
+                seenDnis.add(dni);
+                seenEmails.add(email);
+                accepted.add(row);
+            } else {
+                report.reject(row, duplicates);
+            }
+        }
+
+        try {
+            insert(accepted);
+            report.imported += accepted.size();
+        } catch (DataIntegrityViolationException ex) {
+            // Someone else inserted a conflicting row meanwhile; retry row by row to isolate it
+            for (ImportRow row : accepted) {
+                try {
+                    insert(List.of(row));
+                    report.imported++;
+                } catch (DataIntegrityViolationException rowEx) {
+                    report.reject(row, List.of("Rejected by database: " + rowEx.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+
+    // Cleared once the chunk is flushed and indexed, so the import transaction's persistence context holds one
+    // chunk at most, even when the chunks join a caller's transaction; a rolled-back chunk's context goes with it
+    private void insert(List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Student> saved = studentRepository.saveAllAndFlush(
+                    rows.stream().map(row -> studentMapper.toEntity(row.dto())).toList());
+            // Indexed as one batch once the chunk commits
+            searchService.indexStudents(studentMapper.toResponseList(saved));
+            entityManager.clear();
+        });
+    }
+
+    private static List<String> messages(Set<ConstraintViolation<StudentRequestDto>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private record ImportRow(long number, StudentRequestDto dto) {
+        static String normalize(String email) {
+            return email.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Report {
+        private long imported;
+        private long rejected;
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+        void reject(ImportRow row, List<String> messages) {
+            reject(row.number(), row.dto().getDni(), messages);
+        }
+
+        void reject(long number, String dni, List<String> messages) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowErrorDto.builder().row(number).dni(dni).messages(messages).build());
+            }
+        }
+
+        ImportReportDto toDto() {
+            return ImportReportDto.builder()
+                    .totalRows(imported + rejected)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
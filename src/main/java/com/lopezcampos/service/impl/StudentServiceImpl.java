@@ -1,26 +1,112 @@
 package com.lopezcampos.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.lopezcampos.dto.request.StudentRequestDto;
 import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.mapper.StudentMapper;
 import com.lopezcampos.model.Student;
+import com.lopezcampos.repository.MatriculationRepository;
 import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.service.export.ExportFormat;
+import com.lopezcampos.service.export.ExportWriter;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+import com.lopezcampos.service.search.SearchType;
 
 @Service
 public class StudentServiceImpl
         extends AbstractCrudService<Student, Long, StudentRequestDto, StudentResponseDto, StudentRepository>{
 
-    public StudentServiceImpl(StudentRepository studentRepository) {
-        super(studentRepository, Student.class, StudentResponseDto.class);
+    private final MatriculationRepository matriculationRepository;
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+    private final ScheduleConflictIndex conflictIndex;
+    private final SearchServiceImpl searchService;
+    private final ExportWriter exportWriter;
+    private final PurgeServiceImpl purgeService;
+
+    public StudentServiceImpl(StudentRepository studentRepository, StudentMapper studentMapper,
+                              MatriculationRepository matriculationRepository, StudentSummaryServiceImpl summaryService,
+                              CourseStatisticsServiceImpl statisticsService, ScheduleConflictIndex conflictIndex,
+                              SearchServiceImpl searchService, ExportWriter exportWriter,
+                              PurgeServiceImpl purgeService) {
+        super(studentRepository, studentMapper, StudentResponseDto::getIdStudent);
+        this.matriculationRepository = matriculationRepository;
+        this.summaryService = summaryService;
+        this.statisticsService = statisticsService;
+        this.conflictIndex = conflictIndex;
+        this.searchService = searchService;
+        this.exportWriter = exportWriter;
+        this.purgeService = purgeService;
     }
 
     @Override
+    @Transactional
     public StudentResponseDto create(StudentRequestDto dto) {
         if (dto.getDni() == null || dto.getDni().trim().isEmpty()) {
             throw new RuntimeException("DNI is required");
         }
-        return super.create(dto);
+        StudentResponseDto created = super.create(dto);
+        searchService.index(created);
+        return created;
+    }
+
+    @Transactional(readOnly = true)
+    public StudentResponseDto getByDni(String dni) {
+        return repository.findResponseByDni(dni)
+                .orElseThrow(() -> new NotFoundException("Student not found with dni " + dni));
+    }
+
+    @Transactional(readOnly = true)
+    public StudentResponseDto getByEmail(String email) {
+        return repository.findResponseByEmail(email)
+                .orElseThrow(() -> new NotFoundException("Student not found with email " + email));
+    }
+
+    @Override
+    @Transactional
+    public StudentResponseDto update(Long id, StudentRequestDto dto, Long expectedVersion) {
+        StudentResponseDto updated = super.update(id, dto, expectedVersion);
+        searchService.index(updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public StudentResponseDto patch(Long id, StudentRequestDto changes, Long expectedVersion) {
+        StudentResponseDto patched = super.patch(id, changes, expectedVersion);
+        searchService.index(patched);
+        return patched;
+    }
+
+    // Flags the student and its matriculations, so the courses they counted in are recomputed without them;
+    // the rows, evaluations included, are removed by the background purge
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        List<Long> idCourses = matriculationRepository.findCourseIdsByStudentId(id);
+        super.delete(id);
+        matriculationRepository.softDeleteByStudentId(id);
+        summaryService.deleteForStudent(id);
+        statisticsService.rebuild(idCourses);
+        conflictIndex.releaseStudent(id);
+        searchService.remove(SearchType.STUDENT, id);
+        purgeService.purgeAfterCommit();
+    }
+
+    // Forward-only DTO stream: rows never enter the persistence context, so memory stays flat
+    @Transactional(readOnly = true)
+    public long export(String academicPeriod, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<StudentResponseDto> rows = repository.streamResponses(academicPeriod)) {
+            return exportWriter.write(rows, StudentResponseDto.class, format, out);
+        }
     }
 }
@@ -0,0 +1,131 @@
+package com.lopezcampos.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lopezcampos.dto.response.StudentPeriodSummaryDto;
+import com.lopezcampos.dto.response.StudentSummaryResponseDto;
+import com.lopezcampos.dto.response.SummaryRebuildResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.model.StudentSummary;
+import com.lopezcampos.model.StudentSummaryId;
+import com.lopezcampos.repository.StudentRepository;
+import com.lopezcampos.repository.StudentSummaryRepository;
+import com.lopezcampos.service.summary.SummaryDelta;
+
+@Service
+public class StudentSummaryServiceImpl {
+
+    // Bounds the IN list of a partial rebuild
+    private static final int REBUILD_BATCH = 500;
+
+    private final StudentSummaryRepository summaryRepository;
+    private final StudentRepository studentRepository;
+
+    public StudentSummaryServiceImpl(StudentSummaryRepository summaryRepository, StudentRepository studentRepository) {
+        this.summaryRepository = summaryRepository;
+        this.studentRepository = studentRepository;
+    }
+
+    // MANDATORY: a delta only makes sense committed together with the write that caused it
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(StudentSummaryId key, SummaryDelta delta) {
+        if (!delta.isZero()) {
+            summaryRepository.addDelta(key.getIdStudent(), key.getAcademicPeriod(), delta.matriculations(),
+                    delta.credits(), delta.evaluations(), delta.gradedEvaluations(), delta.weightedGradeSum(),
+                    delta.gradeWeight());
+        }
+    }
+
+    // A row that changed student, period or weight: one combined delta when it stays under the same key
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(StudentSummaryId from, SummaryDelta before, StudentSummaryId to, SummaryDelta after) {
+        if (from.equals(to)) {
+            apply(to, after.plus(before.negate()));
+        } else {
+            apply(from, before.negate());
+            apply(to, after);
+        }
+    }
+
+    // Reads the precomputed rows only: one row per period, however long the student's history is
+    @Transactional(readOnly = true)
+    public StudentSummaryResponseDto getSummary(Long idStudent) {
+        if (!studentRepository.existsById(idStudent)) {
+            throw new NotFoundException("Student not found with id " + idStudent);
+        }
+        List<StudentPeriodSummaryDto> periods = new ArrayList<>();
+        StudentSummary total = StudentSummary.builder()
+                .matriculations(0L).credits(0L).evaluations(0L).gradedEvaluations(0L)
+                .weightedGradeSum(BigDecimal.ZERO).gradeWeight(0L)
+                .build();
+        for (StudentSummary row : summaryRepository.findByStudent(idStudent)) {
+            periods.add(StudentPeriodSummaryDto.builder()
+                    .academicPeriod(StudentSummaryId.NO_PERIOD.equals(row.getId().getAcademicPeriod())
+                            ? null : row.getId().getAcademicPeriod())
+                    .matriculations(row.getMatriculations())
+                    .credits(row.getCredits())
+                    .evaluations(row.getEvaluations())
+                    .gradedEvaluations(row.getGradedEvaluations())
+                    .weightedAverage(average(row))
+                    .build());
+            total.setMatriculations(total.getMatriculations() + row.getMatriculations());
+            total.setCredits(total.getCredits() + row.getCredits());
+            total.setEvaluations(total.getEvaluations() + row.getEvaluations());
+            total.setGradedEvaluations(total.getGradedEvaluations() + row.getGradedEvaluations());
+            total.setWeightedGradeSum(total.getWeightedGradeSum().add(row.getWeightedGradeSum()));
+            total.setGradeWeight(total.getGradeWeight() + row.getGradeWeight());
+        }
+        return StudentSummaryResponseDto.builder()
+                .idStudent(idStudent)
+                .matriculations(total.getMatriculations())
+                .credits(total.getCredits())
+                .evaluations(total.getEvaluations())
+                .gradedEvaluations(total.getGradedEvaluations())
+                .weightedAverage(average(total))
+                .periods(periods)
+                .build();
+    }
+
+    // Backfill: recompute every row from matriculations and evaluations in two set-based statements
+    @Transactional
+    public SummaryRebuildResponseDto rebuild() {
+        long start = System.nanoTime();
+        summaryRepository.deleteAllInBatch();
+        int summaries = summaryRepository.insertAggregates();
+        return SummaryRebuildResponseDto.builder()
+                .summaries(summaries)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    // For changes the deltas can't express cheaply, e.g. a course's credits or a cascading delete
+    @Transactional
+    public void rebuild(Collection<Long> idStudents) {
+        List<Long> ids = List.copyOf(idStudents);
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + REBUILD_BATCH, ids.size()));
+            summaryRepository.deleteByStudents(batch);
+            summaryRepository.insertAggregates(batch);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteForStudent(Long idStudent) {
+        summaryRepository.deleteByStudents(List.of(idStudent));
+    }
+
+    private static BigDecimal average(StudentSummary summary) {
+        if (summary.getGradeWeight() == 0) {
+            return null;
+        }
+        return summary.getWeightedGradeSum().divide(BigDecimal.valueOf(summary.getGradeWeight()), 2, RoundingMode.HALF_UP);
+    }
+}
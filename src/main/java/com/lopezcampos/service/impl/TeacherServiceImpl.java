@@ -1,18 +1,137 @@
 package com.lopezcampos.service.impl;
 
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.lopezcampos.config.CacheConfig;
 import com.lopezcampos.dto.request.TeacherRequestDto;
 import com.lopezcampos.dto.response.TeacherResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.mapper.TeacherMapper;
 import com.lopezcampos.model.Teacher;
+import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.MatriculationRepository;
 import com.lopezcampos.repository.TeacherRepository;
 import com.lopezcampos.service.interface_.AbstractCrudService;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+import com.lopezcampos.service.search.SearchType;
 
 @Service
 public class TeacherServiceImpl
         extends AbstractCrudService<Teacher, Long, TeacherRequestDto, TeacherResponseDto, TeacherRepository>{
 
-    public TeacherServiceImpl(TeacherRepository teacherRepository) {
-        super(teacherRepository, Teacher.class, TeacherResponseDto.class);
+    private final CourseRepository courseRepository;
+    private final MatriculationRepository matriculationRepository;
+    private final StudentSummaryServiceImpl summaryService;
+    private final CourseStatisticsServiceImpl statisticsService;
+    private final ScheduleConflictIndex conflictIndex;
+    private final CacheManager cacheManager;
+    private final SearchServiceImpl searchService;
+    private final PurgeServiceImpl purgeService;
+
+    public TeacherServiceImpl(TeacherRepository teacherRepository, CourseRepository courseRepository,
+                              MatriculationRepository matriculationRepository, StudentSummaryServiceImpl summaryService,
+                              CourseStatisticsServiceImpl statisticsService, ScheduleConflictIndex conflictIndex,
+                              TeacherMapper teacherMapper, CacheManager cacheManager, SearchServiceImpl searchService,
+                              PurgeServiceImpl purgeService) {
+        super(teacherRepository, teacherMapper, TeacherResponseDto::getIdTeacher);
+        this.courseRepository = courseRepository;
+        this.matriculationRepository = matriculationRepository;
+        this.summaryService = summaryService;
+        this.statisticsService = statisticsService;
+        this.conflictIndex = conflictIndex;
+        this.cacheManager = cacheManager;
+        this.searchService = searchService;
+        this.purgeService = purgeService;
+    }
+
+    // Not read-only, so a miss loads from the primary: a lagging replica would put back the row the last
+    // write evicted, and it would be served until the entry expires
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.TEACHERS, key = "#id")
+    public TeacherResponseDto getById(Long id) {
+        return repository.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Teacher not found with id " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public TeacherResponseDto getByDni(String dni) {
+        return repository.findResponseByDni(dni)
+                .orElseThrow(() -> new NotFoundException("Teacher not found with dni " + dni));
+    }
+
+    @Transactional(readOnly = true)
+    public TeacherResponseDto getByEmail(String email) {
+        return repository.findResponseByEmail(email)
+                .orElseThrow(() -> new NotFoundException("Teacher not found with email " + email));
+    }
+
+    @Override
+    @Transactional
+    public TeacherResponseDto create(TeacherRequestDto requestDto) {
+        TeacherResponseDto created = super.create(requestDto);
+        searchService.index(created);
+        return created;
+    }
+
+    // Cached courses flatten the teacher name, so they go stale with it
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TEACHERS, key = "#id")
+    public TeacherResponseDto update(Long id, TeacherRequestDto requestDto, Long expectedVersion) {
+        TeacherResponseDto updated = super.update(id, requestDto, expectedVersion);
+        evictCourses(courseRepository.findIdsByTeacherId(id));
+        searchService.index(updated);
+        return updated;
+    }
+
+    // Only a new name reaches the cached courses; an email or phone change leaves them alone
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TEACHERS, key = "#id")
+    public TeacherResponseDto patch(Long id, TeacherRequestDto changes, Long expectedVersion) {
+        TeacherResponseDto patched = super.patch(id, changes, expectedVersion);
+        if (changes.getName() != null || changes.getSurname() != null) {
+            evictCourses(courseRepository.findIdsByTeacherId(id));
+        }
+        searchService.index(patched);
+        return patched;
+    }
+
+    // Flags the teacher, its courses and their matriculations in three UPDATEs, whatever their number, and
+    // recomputes the read models without them; the rows go in the background purge
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TEACHERS, key = "#id")
+    public void delete(Long id) {
+        List<Long> courseIds = courseRepository.findIdsByTeacherId(id);
+        super.delete(id);
+        if (!courseIds.isEmpty()) {
+            List<Long> idStudents = matriculationRepository.findStudentIdsByCourseIds(courseIds);
+            courseRepository.softDeleteByTeacherId(id);
+            matriculationRepository.softDeleteByCourseIds(courseIds);
+            summaryService.rebuild(idStudents);
+            statisticsService.rebuild(courseIds);
+            courseIds.forEach(conflictIndex::releaseCourse);
+        }
+        evictCourses(courseIds);
+        searchService.remove(SearchType.TEACHER, id);
+        searchService.remove(SearchType.COURSE, courseIds);
+        purgeService.purgeAfterCommit();
+    }
+
+    private void evictCourses(List<Long> courseIds) {
+        Cache courses = cacheManager.getCache(CacheConfig.COURSES);
+        if (courses != null) {
+            courseIds.forEach(courses::evict);
+        }
     }
 }
@@ -1,63 +1,205 @@
 package com.lopezcampos.service.interface_;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import com.lopezcampos.config.ModelMapperConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.exception.versioning.PreconditionFailedException;
+import com.lopezcampos.mapper.EntityMapper;
+import com.lopezcampos.model.Versioned;
+import com.lopezcampos.repository.ResponseProjectionRepository;
 
 public abstract class AbstractCrudService<
-        T,          // Entity
-        ID,         // ID 
+        T extends Versioned, // Entity
+        ID,         // ID
         REQ,        // RequestDto
         RES,        // ResponseDto
-        R extends JpaRepository<T, ID>
+        R extends JpaRepository<T, ID> & ResponseProjectionRepository<RES, ID>
         > implements CrudService<REQ, RES, ID> {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Pattern FOREIGN_KEY_COLUMN = Pattern.compile("foreign key\\s*\\(\\W*id_([a-z]+)");
+
     protected final R repository;
-    private final Class<T> entityClass;
-    private final Class<RES> responseClass;
+    protected final EntityMapper<T, REQ, RES> mapper;
+    private final Function<RES, Long> responseKey;
 
-    protected AbstractCrudService(R repository, Class<T> entityClass, Class<RES> responseClass) {
+    protected AbstractCrudService(R repository, EntityMapper<T, REQ, RES> mapper, Function<RES, Long> responseKey) {
         this.repository = repository;
-        this.entityClass = entityClass;
-        this.responseClass = responseClass;
+        this.mapper = mapper;
+        this.responseKey = responseKey;
     }
 
+    // Writes are explicit transactions so the lookups inside them read the primary, not a replica
     @Override
+    @Transactional
     public RES create(REQ requestDto) {
-        T entity = ModelMapperConfig.map(requestDto, entityClass);
+        T entity = mapper.toEntity(requestDto);
         T saved = repository.save(entity);
-        return ModelMapperConfig.map(saved, responseClass);
+        return mapper.toResponse(saved);
     }
 
+    // Reads select straight into the ResponseDto, no managed entities involved; read-only, so replica-routed
     @Override
+    @Transactional(readOnly = true)
     public RES getById(ID id) {
-        T entity = repository.findById(id)
+        return repository.findResponseById(id)
                 .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
-        return ModelMapperConfig.map(entity, responseClass);
     }
 
+    // Cheap probe for ETags: one indexed lookup, no DTO built
     @Override
-    public List<RES> getAll() {
-        return ModelMapperConfig.mapList(repository.findAll(), responseClass);
+    @Transactional(readOnly = true)
+    public String getVersionTag(ID id) {
+        return repository.findVersionTagById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+    }
+
+    // One read-only transaction (one snapshot on InnoDB), so a write can't land between the tag and the body.
+    // Both come from the repository, not from a cached getById whose entry the write may not have evicted yet
+    @Override
+    @Transactional(readOnly = true)
+    public Tagged<RES> getTagged(ID id) {
+        String versionTag = repository.findVersionTagById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+        RES body = repository.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+        return new Tagged<>(versionTag, body);
     }
 
-        @Override
-        public RES update(ID id, REQ requestDto) {
-            T entity = repository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+    // Keyset: WHERE id > :key ORDER BY id LIMIT size + 1, the extra row only tells us if there is a next page
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<RES> getPage(String cursor, Integer size) {
+        Cursor position = Cursor.decode(cursor);
+        int limit = resolvePageSize(size);
+
+        List<RES> content = new ArrayList<>(position.isBackward()
+                ? repository.findResponsesBefore(position.getKey(), Limit.of(limit + 1))
+                : repository.findResponsesAfter(position.getKey(), Limit.of(limit + 1)));
 
-            ModelMapperConfig.map(requestDto, entity);
+        boolean hasMore = content.size() > limit;
+        if (hasMore) {
+            content.remove(limit);
+        }
+        if (position.isBackward()) {
+            Collections.reverse(content);
+        }
 
-            T updated = repository.save(entity);
-            return ModelMapperConfig.map(updated, responseClass);
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            Long firstKey = responseKey.apply(content.get(0));
+            Long lastKey = responseKey.apply(content.get(content.size() - 1));
+            if (position.isBackward() || hasMore) {
+                nextCursor = Cursor.after(lastKey).encode();
+            }
+            if (position.isBackward() ? hasMore : !position.isFirst()) {
+                prevCursor = Cursor.before(firstKey).encode();
+            }
         }
 
+        return CursorPageResponseDto.<RES>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .size(limit)
+                .build();
+    }
+
     @Override
+    @Transactional
+    public RES update(ID id, REQ requestDto, Long expectedVersion) {
+        return write(id, expectedVersion, entity -> mapper.updateEntity(requestDto, entity));
+    }
+
+    // With @DynamicUpdate the UPDATE only sets the columns the request changed
+    @Override
+    @Transactional
+    public RES patch(ID id, REQ changes, Long expectedVersion) {
+        return write(id, expectedVersion, entity -> mapper.patchEntity(changes, entity));
+    }
+
+    // deleteById would load the row again after an existsById probe; one load serves both
+    @Override
+    @Transactional
     public void delete(ID id) {
-        if (!repository.existsById(id)) {
-            throw new NotFoundException("Entity not found with id " + id);
+        T entity = repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+        repository.delete(entity);
+    }
+
+    protected RES write(ID id, Long expectedVersion, Consumer<T> changes) {
+        T entity = repository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Entity not found with id " + id));
+        checkVersion(id, entity, expectedVersion);
+
+        changes.accept(entity);
+
+        // Flushed so the response carries the incremented version
+        T updated = saveAndFlush(entity);
+        return mapper.toResponse(updated);
+    }
+
+    /**
+     * Flush for rows whose parents were set with getReferenceById: nothing was read to check them, so a
+     * parent that is gone shows up here as a foreign key violation and is reported as not found.
+     */
+    protected T saveAndFlush(T entity) {
+        try {
+            return repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException ex) {
+            if (ex.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() != ConstraintViolationException.ConstraintKind.UNIQUE) {
+                String parent = referencedEntity(violation.getSQLException().getMessage());
+                if (parent != null) {
+                    throw new NotFoundException(parent + " not found");
+                }
+            }
+            throw ex;
+        }
+    }
+
+    // Fails fast on a stale If-Match; @Version still rejects an edit committed between this check and the flush
+    protected void checkVersion(ID id, T entity, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new PreconditionFailedException(id, expectedVersion, entity.getVersion());
+        }
+    }
+
+    // FOREIGN KEY (id_teacher) → Teacher: H2 and MySQL both name the violated column in the message, whatever
+    // the constraint is called (fk_<table>_<parent> from the migrations, FK<hash> from ddl-auto); null if absent
+    private static String referencedEntity(String message) {
+        if (message == null) {
+            return null;
+        }
+        Matcher column = FOREIGN_KEY_COLUMN.matcher(message.toLowerCase(Locale.ROOT));
+        if (!column.find()) {
+            return null;
+        }
+        String parent = column.group(1);
+        return Character.toUpperCase(parent.charAt(0)) + parent.substring(1);
+    }
+
+    private static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
         }
-        repository.deleteById(id);
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 }
@@ -1,11 +1,17 @@
 package com.lopezcampos.service.interface_;
 
-import java.util.List;
+import com.lopezcampos.dto.response.CursorPageResponseDto;
 
 public interface CrudService<REQ, RES, ID> {
     RES create(REQ requestDto);
     RES getById(ID id);
-    List<RES> getAll();
-    RES update(ID id, REQ requestDto);
+    CursorPageResponseDto<RES> getPage(String cursor, Integer size);
+    String getVersionTag(ID id);
+    // Body and version tag from the same read, for the ETag of a 200
+    Tagged<RES> getTagged(ID id);
+    // expectedVersion comes from If-Match; null updates unconditionally
+    RES update(ID id, REQ requestDto, Long expectedVersion);
+    // Partial update: null fields keep their current value
+    RES patch(ID id, REQ changes, Long expectedVersion);
     void delete(ID id);
 }
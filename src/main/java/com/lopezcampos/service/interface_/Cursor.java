@@ -0,0 +1,68 @@
+package com.lopezcampos.service.interface_;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.lopezcampos.exception.pagination.InvalidCursorException;
+
+/**
+ * Opaque keyset position: the primary key to seek from and the direction.
+ * Serialized as URL-safe Base64 so clients treat it as a token, not an id.
+ */
+public final class Cursor {
+
+    private static final Cursor FIRST = new Cursor(null, false);
+
+    private final Long key;
+    private final boolean backward;
+
+    private Cursor(Long key, boolean backward) {
+        this.key = key;
+        this.backward = backward;
+    }
+
+    public static Cursor after(Long key) {
+        return new Cursor(key, false);
+    }
+
+    public static Cursor before(Long key) {
+        return new Cursor(key, true);
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep != 1) {
+                throw new InvalidCursorException(token);
+            }
+            char direction = raw.charAt(0);
+            if (direction != 'a' && direction != 'b') {
+                throw new InvalidCursorException(token);
+            }
+            return new Cursor(Long.valueOf(raw.substring(2)), direction == 'b');
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = (backward ? "b:" : "a:") + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return key == null;
+    }
+
+    public boolean isBackward() {
+        return backward;
+    }
+
+    public Long getKey() {
+        return key;
+    }
+}
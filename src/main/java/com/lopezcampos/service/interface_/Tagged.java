@@ -0,0 +1,8 @@
+package com.lopezcampos.service.interface_;
+
+/**
+ * A response together with the version tag ("3-1") of the rows it was built from, read in one transaction,
+ * so the ETag sent with a body always describes that body.
+ */
+public record Tagged<RES>(String versionTag, RES body) {
+}
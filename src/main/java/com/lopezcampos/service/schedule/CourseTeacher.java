@@ -0,0 +1,4 @@
+package com.lopezcampos.service.schedule;
+
+public record CourseTeacher(Long idCourse, Long idTeacher) {
+}
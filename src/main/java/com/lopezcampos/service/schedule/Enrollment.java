@@ -0,0 +1,12 @@
+package com.lopezcampos.service.schedule;
+
+import com.lopezcampos.model.Matriculation;
+
+// A matriculation as seen by the timetable check: the student takes the course's schedules in that period
+public record Enrollment(Long idMatriculation, Long idStudent, String academicPeriod, Long idCourse) {
+
+    public static Enrollment of(Matriculation matriculation) {
+        return new Enrollment(matriculation.getIdMatriculation(), matriculation.getStudent().getIdStudent(),
+                matriculation.getAcademicPeriod(), matriculation.getCourse().getIdCourse());
+    }
+}
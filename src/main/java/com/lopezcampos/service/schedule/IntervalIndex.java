@@ -0,0 +1,84 @@
+package com.lopezcampos.service.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Half-open [start, end) intervals in seconds of the day, grouped by key (a classroom, teacher or student day).
+ * Each key keeps its intervals sorted by start together with the longest length it has seen, so everything
+ * overlapping [s, e) starts inside (s - longest, e): one O(log n) range lookup plus the matches.
+ * Overlapping entries are allowed, since rows written before conflict detection existed may clash.
+ * Not thread-safe; ScheduleConflictIndex guards it.
+ */
+final class IntervalIndex<K> {
+
+    // owner: the schedule the interval belongs to; tag tells apart copies of it, e.g. one per matriculation
+    record Entry(long owner, long tag, int start, int end) {
+    }
+
+    private final Map<K, Timeline> timelines = new HashMap<>();
+
+    void add(K key, Entry entry) {
+        timelines.computeIfAbsent(key, k -> new Timeline()).add(entry);
+    }
+
+    void remove(K key, Entry entry) {
+        Timeline timeline = timelines.get(key);
+        if (timeline != null && timeline.remove(entry) && timeline.isEmpty()) {
+            timelines.remove(key);
+        }
+    }
+
+    // Owners overlapping [start, end), skipping entries carrying ignoredTag (the row being replaced)
+    Set<Long> overlapping(K key, int start, int end, long ignoredTag) {
+        Timeline timeline = timelines.get(key);
+        return timeline == null ? Set.of() : timeline.overlapping(start, end, ignoredTag);
+    }
+
+    void clear() {
+        timelines.clear();
+    }
+
+    private static final class Timeline {
+        private final TreeMap<Integer, List<Entry>> byStart = new TreeMap<>();
+        // Never shrinks on removal: a stale maximum only widens the range scanned, it can't miss an overlap
+        private int longest;
+
+        void add(Entry entry) {
+            byStart.computeIfAbsent(entry.start(), s -> new ArrayList<>(1)).add(entry);
+            longest = Math.max(longest, entry.end() - entry.start());
+        }
+
+        boolean remove(Entry entry) {
+            List<Entry> sameStart = byStart.get(entry.start());
+            if (sameStart == null || !sameStart.remove(entry)) {
+                return false;
+            }
+            if (sameStart.isEmpty()) {
+                byStart.remove(entry.start());
+            }
+            return true;
+        }
+
+        Set<Long> overlapping(int start, int end, long ignoredTag) {
+            Set<Long> owners = new LinkedHashSet<>();
+            for (List<Entry> sameStart : byStart.subMap(start - longest, false, end, false).values()) {
+                for (Entry entry : sameStart) {
+                    if (entry.end() > start && entry.tag() != ignoredTag) {
+                        owners.add(entry.owner());
+                    }
+                }
+            }
+            return owners;
+        }
+
+        boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.lopezcampos.service.schedule;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lopezcampos.exception.schedules.InvalidScheduleTimeException;
+import com.lopezcampos.exception.schedules.ScheduleConflictException;
+import com.lopezcampos.repository.CourseRepository;
+import com.lopezcampos.repository.MatriculationRepository;
+import com.lopezcampos.repository.ScheduleRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory timetable of every classroom, teacher and student, one interval index per (owner, day).
+ * Loaded before the web server starts accepting requests and kept in step by the schedule, matriculation,
+ * course and student services. A write is checked and reserved in one step under the index lock and undone
+ * if its transaction rolls back, so two concurrent requests can't both take the same slot on this instance.
+ * The lock is a ReentrantLock rather than synchronized so virtual threads waiting on it are not pinned.
+ */
+@Slf4j
+@Component
+public class ScheduleConflictIndex implements SmartInitializingSingleton {
+
+    public static final String CLASSROOM = "classroom";
+    public static final String TEACHER = "teacher";
+    public static final String STUDENT = "student";
+
+    private record ClassroomDay(String classroom, String day) {
+    }
+
+    private record TeacherDay(Long idTeacher, String day) {
+    }
+
+    private record StudentDay(Long idStudent, String academicPeriod, String day) {
+    }
+
+    private final ScheduleRepository scheduleRepository;
+    private final CourseRepository courseRepository;
+    private final MatriculationRepository matriculationRepository;
+
+    private final IntervalIndex<ClassroomDay> classrooms = new IntervalIndex<>();
+    private final IntervalIndex<TeacherDay> teachers = new IntervalIndex<>();
+    private final IntervalIndex<StudentDay> students = new IntervalIndex<>();
+
+    private final Map<Long, ScheduleSlot> schedules = new HashMap<>();
+    private final Map<Long, Set<Long>> schedulesByCourse = new HashMap<>();
+    private final Map<Long, Long> teacherByCourse = new HashMap<>();
+    private final Map<Long, Enrollment> enrollments = new HashMap<>();
+    private final Map<Long, Set<Long>> enrollmentsByCourse = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public ScheduleConflictIndex(ScheduleRepository scheduleRepository, CourseRepository courseRepository,
+                                 MatriculationRepository matriculationRepository) {
+        this.scheduleRepository = scheduleRepository;
+        this.courseRepository = courseRepository;
+        this.matriculationRepository = matriculationRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public void reload() {
+        long start = System.nanoTime();
+        List<CourseTeacher> courseTeachers = courseRepository.findCourseTeachers();
+        List<Enrollment> allEnrollments = matriculationRepository.findEnrollments();
+        List<ScheduleSlot> slots = scheduleRepository.findSlots();
+        locked(() -> {
+            clear();
+            courseTeachers.forEach(ct -> teacherByCourse.put(ct.idCourse(), ct.idTeacher()));
+            allEnrollments.forEach(this::putEnrollment);
+            slots.forEach(this::putSchedule);
+        });
+        log.info("Schedule conflict index loaded: {} schedules, {} matriculations in {} ms",
+                slots.size(), allEnrollments.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void clear() {
+        classrooms.clear();
+        teachers.clear();
+        students.clear();
+        schedules.clear();
+        schedulesByCourse.clear();
+        teacherByCourse.clear();
+        enrollments.clear();
+        enrollmentsByCourse.clear();
+    }
+
+    // Throws with the clashing schedule ids (classroom, teacher, enrolled students), otherwise takes the slot
+    // (replacing the schedule's previous one)
+    public void reserve(ScheduleSlot slot) {
+        validate(slot.startTime(), slot.endTime());
+        locked(() -> reserveLocked(slot));
+    }
+
+    // Same for a student's timetable: the course's schedules must not clash with the rest of that period
+    public void reserve(Enrollment enrollment) {
+        locked(() -> reserveLocked(enrollment));
+    }
+
+    private void reserveLocked(ScheduleSlot slot) {
+        int start = slot.startTime().toSecondOfDay();
+        int end = slot.endTime().toSecondOfDay();
+        String day = normalize(slot.dayOfWeek());
+        Map<String, Set<Long>> conflicts = new LinkedHashMap<>();
+        if (slot.classroom() != null) {
+            collect(conflicts, CLASSROOM,
+                    classrooms.overlapping(new ClassroomDay(normalize(slot.classroom()), day), start, end, slot.idSchedule()));
+        }
+        Long idTeacher = teacherByCourse.get(slot.idCourse());
+        if (idTeacher != null) {
+            collect(conflicts, TEACHER,
+                    teachers.overlapping(new TeacherDay(idTeacher, day), start, end, slot.idSchedule()));
+        }
+        // Every student enrolled in the course gets the new slot too; their own copies of it carry the
+        // matriculation as tag and are skipped
+        for (Long idMatriculation : enrollmentsByCourse.getOrDefault(slot.idCourse(), Set.of())) {
+            collect(conflicts, STUDENT, students.overlapping(studentDay(enrollments.get(idMatriculation), slot),
+                    start, end, idMatriculation));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ScheduleConflictException(conflicts);
+        }
+
+        ScheduleSlot previous = removeSchedule(slot.idSchedule());
+        putSchedule(slot);
+        onRollback(() -> {
+            removeSchedule(slot.idSchedule());
+            if (previous != null) {
+                putSchedule(previous);
+            }
+        });
+    }
+
+    private void reserveLocked(Enrollment enrollment) {
+        Map<String, Set<Long>> conflicts = new LinkedHashMap<>();
+        for (Long idSchedule : schedulesByCourse.getOrDefault(enrollment.idCourse(), Set.of())) {
+            ScheduleSlot slot = schedules.get(idSchedule);
+            collect(conflicts, STUDENT, students.overlapping(studentDay(enrollment, slot),
+                    slot.startTime().toSecondOfDay(), slot.endTime().toSecondOfDay(), enrollment.idMatriculation()));
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ScheduleConflictException(conflicts);
+        }
+
+        Enrollment previous = removeEnrollment(enrollment.idMatriculation());
+        putEnrollment(enrollment);
+        onRollback(() -> {
+            removeEnrollment(enrollment.idMatriculation());
+            if (previous != null) {
+                putEnrollment(previous);
+            }
+        });
+    }
+
+    // Releases wait for the commit: until then the rows still exist and keep their slots
+    public void releaseSchedule(Long idSchedule) {
+        afterCommit(() -> removeSchedule(idSchedule));
+    }
+
+    public void releaseEnrollment(Long idMatriculation) {
+        afterCommit(() -> removeEnrollment(idMatriculation));
+    }
+
+    // Schedules and matriculations cascade with the course
+    public void releaseCourse(Long idCourse) {
+        afterCommit(() -> {
+            Set.copyOf(schedulesByCourse.getOrDefault(idCourse, Set.of())).forEach(this::removeSchedule);
+            Set.copyOf(enrollmentsByCourse.getOrDefault(idCourse, Set.of())).forEach(this::removeEnrollment);
+            teacherByCourse.remove(idCourse);
+        });
+    }
+
+    public void releaseStudent(Long idStudent) {
+        afterCommit(() -> enrollments.values().stream()
+                .filter(e -> e.idStudent().equals(idStudent))
+                .map(Enrollment::idMatriculation)
+                .toList()
+                .forEach(this::removeEnrollment));
+    }
+
+    // A course's schedules follow it to its new teacher
+    public void assignTeacher(Long idCourse, Long idTeacher) {
+        afterCommit(() -> {
+            Set<Long> ids = Set.copyOf(schedulesByCourse.getOrDefault(idCourse, Set.of()));
+            List<ScheduleSlot> slots = ids.stream().map(this::removeSchedule).toList();
+            teacherByCourse.put(idCourse, idTeacher);
+            slots.forEach(this::putSchedule);
+        });
+    }
+
+    public static void validate(LocalTime startTime, LocalTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new InvalidScheduleTimeException(startTime, endTime);
+        }
+    }
+
+    private void putSchedule(ScheduleSlot slot) {
+        schedules.put(slot.idSchedule(), slot);
+        schedulesByCourse.computeIfAbsent(slot.idCourse(), c -> new HashSet<>()).add(slot.idSchedule());
+        forEachInterval(slot, true);
+    }
+
+    private ScheduleSlot removeSchedule(Long idSchedule) {
+        ScheduleSlot slot = schedules.remove(idSchedule);
+        if (slot != null) {
+            removeFrom(schedulesByCourse, slot.idCourse(), idSchedule);
+            forEachInterval(slot, false);
+        }
+        return slot;
+    }
+
+    private void putEnrollment(Enrollment enrollment) {
+        enrollments.put(enrollment.idMatriculation(), enrollment);
+        enrollmentsByCourse.computeIfAbsent(enrollment.idCourse(), c -> new HashSet<>()).add(enrollment.idMatriculation());
+        for (Long idSchedule : schedulesByCourse.getOrDefault(enrollment.idCourse(), Set.of())) {
+            ScheduleSlot slot = schedules.get(idSchedule);
+            students.add(studentDay(enrollment, slot), entry(slot, enrollment.idMatriculation()));
+        }
+    }
+
+    private Enrollment removeEnrollment(Long idMatriculation) {
+        Enrollment enrollment = enrollments.remove(idMatriculation);
+        if (enrollment != null) {
+            removeFrom(enrollmentsByCourse, enrollment.idCourse(), idMatriculation);
+            for (Long idSchedule : schedulesByCourse.getOrDefault(enrollment.idCourse(), Set.of())) {
+                ScheduleSlot slot = schedules.get(idSchedule);
+                students.remove(studentDay(enrollment, slot), entry(slot, idMatriculation));
+            }
+        }
+        return enrollment;
+    }
+
+    // Adds or removes a schedule's interval for its classroom, its teacher and every student enrolled in its course
+    private void forEachInterval(ScheduleSlot slot, boolean add) {
+        String day = normalize(slot.dayOfWeek());
+        IntervalIndex.Entry own = entry(slot, slot.idSchedule());
+        if (slot.classroom() != null) {
+            apply(classrooms, new ClassroomDay(normalize(slot.classroom()), day), own, add);
+        }
+        Long idTeacher = teacherByCourse.get(slot.idCourse());
+        if (idTeacher != null) {
+            apply(teachers, new TeacherDay(idTeacher, day), own, add);
+        }
+        for (Long idMatriculation : enrollmentsByCourse.getOrDefault(slot.idCourse(), Set.of())) {
+            apply(students, studentDay(enrollments.get(idMatriculation), slot), entry(slot, idMatriculation), add);
+        }
+    }
+
+    private static <K> void apply(IntervalIndex<K> index, K key, IntervalIndex.Entry entry, boolean add) {
+        if (add) {
+            index.add(key, entry);
+        } else {
+            index.remove(key, entry);
+        }
+    }
+
+    private static IntervalIndex.Entry entry(ScheduleSlot slot, long tag) {
+        return new IntervalIndex.Entry(slot.idSchedule(), tag,
+                slot.startTime().toSecondOfDay(), slot.endTime().toSecondOfDay());
+    }
+
+    private static StudentDay studentDay(Enrollment enrollment, ScheduleSlot slot) {
+        return new StudentDay(enrollment.idStudent(), enrollment.academicPeriod(), normalize(slot.dayOfWeek()));
+    }
+
+    private static void collect(Map<String, Set<Long>> conflicts, String reason, Set<Long> ids) {
+        if (!ids.isEmpty()) {
+            conflicts.computeIfAbsent(reason, r -> new LinkedHashSet<>()).addAll(ids);
+        }
+    }
+
+    private static void removeFrom(Map<Long, Set<Long>> groups, Long key, Long id) {
+        Set<Long> group = groups.get(key);
+        if (group != null && group.remove(id) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    // "Monday", " monday " and "MONDAY" are the same day; classrooms likewise
+    private static String normalize(String value) {
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locked(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locked(action);
+            }
+        });
+    }
+
+    private void onRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    locked(undo);
+                }
+            }
+        });
+    }
+
+    private void locked(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.lopezcampos.service.schedule;
+
+import java.time.LocalTime;
+
+import com.lopezcampos.model.Schedule;
+
+// What the conflict index needs from a schedule row
+public record ScheduleSlot(Long idSchedule, Long idCourse, String classroom, String dayOfWeek,
+                           LocalTime startTime, LocalTime endTime) {
+
+    public static ScheduleSlot of(Schedule schedule, Long idCourse) {
+        return new ScheduleSlot(schedule.getIdSchedule(), idCourse, schedule.getClassroom(), schedule.getDayOfWeek(),
+                schedule.getStartTime(), schedule.getEndTime());
+    }
+}
@@ -0,0 +1,53 @@
+package com.lopezcampos.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.dto.response.TeacherResponseDto;
+
+// One searchable entity: what the result shows (label, detail) and the distinct terms it is found by
+public record SearchDocument(SearchType type, long id, String label, String detail, List<String> terms) {
+
+    public static SearchDocument ofStudent(StudentResponseDto student) {
+        Set<String> terms = new LinkedHashSet<>(SearchText.words(student.getName()));
+        terms.addAll(SearchText.words(student.getSurname()));
+        terms.add(SearchText.keyword(student.getDni()));
+        String email = SearchText.keyword(student.getEmail());
+        // Emails are usually stored lower case already; then the shown email and the term share one string
+        String detail = email.equals(student.getEmail()) ? email : student.getEmail();
+        terms.add(email);
+        return of(SearchType.STUDENT, student.getIdStudent(), student.getName() + " " + student.getSurname(),
+                detail, terms);
+    }
+
+    public static SearchDocument ofTeacher(TeacherResponseDto teacher) {
+        Set<String> terms = new LinkedHashSet<>(SearchText.words(teacher.getName()));
+        terms.addAll(SearchText.words(teacher.getSurname()));
+        terms.addAll(SearchText.words(teacher.getSpecialty()));
+        return of(SearchType.TEACHER, teacher.getIdTeacher(), teacher.getName() + " " + teacher.getSurname(),
+                teacher.getSpecialty(), terms);
+    }
+
+    public static SearchDocument ofCourse(CourseResponseDto course) {
+        Set<String> terms = new LinkedHashSet<>(SearchText.words(course.getName()));
+        terms.add(SearchText.keyword(course.getCode()));
+        return of(SearchType.COURSE, course.getIdCourse(), course.getName(), course.getCode(), terms);
+    }
+
+    private static SearchDocument of(SearchType type, Long id, String label, String detail, Set<String> terms) {
+        terms.remove("");
+        return new SearchDocument(type, id, label, detail, List.copyOf(terms));
+    }
+
+    // Type in the top byte, id below: one primitive key per document in the posting lists
+    long key() {
+        return key(type, id);
+    }
+
+    static long key(SearchType type, long id) {
+        return (long) type.ordinal() << 56 | id;
+    }
+}
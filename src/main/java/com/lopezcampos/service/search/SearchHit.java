@@ -0,0 +1,4 @@
+package com.lopezcampos.service.search;
+
+public record SearchHit(SearchDocument document, double score) {
+}
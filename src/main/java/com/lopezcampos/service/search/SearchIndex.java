@@ -0,0 +1,388 @@
+package com.lopezcampos.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.lopezcampos.dto.response.SearchIndexStatsDto;
+
+/**
+ * In-memory search over students, teachers and courses.
+ * Terms live in a sorted map, so a prefix is one range of keys; each term maps to a sorted long[]
+ * of document keys, replaced copy-on-write. Readers never lock and only ever see a whole posting list.
+ * A query walks the range of its longest token and checks the other tokens against each candidate's
+ * own terms. The walk stops after CANDIDATE_BUDGET terms and documents, which keeps a one-letter query
+ * as cheap as a full name: ranking is exact within the budget, and a candidate that can no longer beat
+ * the current top-k is skipped without being looked up. Ties keep the lowest keys. Words of four letters
+ * or more (not identifiers) can also be found with one typo, through a map from every single-letter
+ * deletion to the words that produce it (symmetric delete).
+ * Writers are serialized by a lock; putAll groups a batch by term so each posting list is copied once,
+ * and documents keep the dictionary's own term strings, so a common name is stored once.
+ */
+public class SearchIndex {
+
+    public static final int CANDIDATE_BUDGET = 2_000;
+    public static final int MAX_LIMIT = 50;
+
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final double FUZZY_SCORE = 0.4;
+    private static final long[] NO_KEYS = {};
+
+    // Rough 64-bit JVM sizes with compressed references; enough to watch the footprint grow with the data
+    private static final long MAP_ENTRY_BYTES = 48;
+    private static final long BOXED_KEY_BYTES = 16;
+    private static final long DOCUMENT_BYTES = 32;
+    private static final long ARRAY_HEADER_BYTES = 16;
+
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::score).reversed()
+            .thenComparingLong(hit -> hit.document().key());
+
+    private final Map<Long, SearchDocument> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, long[]> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, String[]> deletions = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public void put(SearchDocument document) {
+        putAll(List.of(document));
+    }
+
+    // Adds or replaces documents
+    public void putAll(Collection<SearchDocument> batch) {
+        writeLock.lock();
+        try {
+            Map<String, List<Long>> removed = new HashMap<>();
+            Map<String, List<Long>> added = new HashMap<>();
+            for (SearchDocument indexed : batch) {
+                SearchDocument document = canonical(indexed);
+                SearchDocument previous = documents.put(document.key(), document);
+                if (previous != null) {
+                    previous.terms().forEach(term -> removed.computeIfAbsent(term, t -> new ArrayList<>()).add(document.key()));
+                }
+                document.terms().forEach(term -> added.computeIfAbsent(term, t -> new ArrayList<>()).add(document.key()));
+            }
+            removed.forEach((term, keys) -> update(term, keys, false));
+            added.forEach((term, keys) -> update(term, keys, true));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(SearchType type, long id) {
+        writeLock.lock();
+        try {
+            SearchDocument previous = documents.remove(SearchDocument.key(type, id));
+            if (previous != null) {
+                previous.terms().forEach(term -> update(term, List.of(previous.key()), false));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            documents.clear();
+            postings.clear();
+            deletions.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // type null searches every type; every query token must match some term of the document
+    public List<SearchHit> search(String query, SearchType type, int limit) {
+        List<String> tokens = resolve(SearchText.queryTokens(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String driver = tokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        List<String> others = new ArrayList<>(tokens);
+        others.remove(driver);
+
+        Ranking ranking = new Ranking(Math.min(limit, MAX_LIMIT));
+        Scan scan = new Scan(others, type, ranking);
+        for (Map.Entry<String, long[]> term : postings.subMap(driver, true, driver + Character.MAX_VALUE, false).entrySet()) {
+            if (!scan.accept(term.getValue(), tokenScore(driver, term.getKey()))) {
+                break;
+            }
+        }
+        if (!ranking.isFull() && isFuzzy(driver)) {
+            for (String term : fuzzyTerms(driver)) {
+                if (!scan.accept(postings.getOrDefault(term, NO_KEYS), FUZZY_SCORE)) {
+                    break;
+                }
+            }
+        }
+        return ranking.sorted();
+    }
+
+    public SearchIndexStatsDto stats() {
+        long postingCount = 0;
+        long bytes = 0;
+        for (Map.Entry<String, long[]> term : postings.entrySet()) {
+            postingCount += term.getValue().length;
+            bytes += MAP_ENTRY_BYTES + stringBytes(term.getKey()) + ARRAY_HEADER_BYTES + 8L * term.getValue().length;
+        }
+        for (SearchDocument document : documents.values()) {
+            // Its terms are the dictionary's strings, counted above
+            bytes += MAP_ENTRY_BYTES + BOXED_KEY_BYTES + DOCUMENT_BYTES
+                    + stringBytes(document.label()) + stringBytes(document.detail())
+                    + ARRAY_HEADER_BYTES + 4L * document.terms().size();
+        }
+        for (Map.Entry<String, String[]> variant : deletions.entrySet()) {
+            bytes += MAP_ENTRY_BYTES + stringBytes(variant.getKey()) + ARRAY_HEADER_BYTES + 4L * variant.getValue().length;
+        }
+        return SearchIndexStatsDto.builder()
+                .documents(documents.size())
+                .terms(postings.size())
+                .postings(postingCount)
+                .fuzzyKeys(deletions.size())
+                .estimatedBytes(bytes)
+                .build();
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    private SearchDocument canonical(SearchDocument document) {
+        List<String> terms = document.terms().stream()
+                .map(term -> {
+                    String existing = postings.ceilingKey(term);
+                    return term.equals(existing) ? existing : term;
+                })
+                .toList();
+        return new SearchDocument(document.type(), document.id(), document.label(), document.detail(), terms);
+    }
+
+    // A token with punctuation is kept whole when it prefixes an identifier (an email, a code),
+    // otherwise it is split into words like the indexed names were
+    private List<String> resolve(List<String> tokens) {
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (SearchText.isWord(token) || hasPrefix(token)) {
+                resolved.add(token);
+            } else {
+                resolved.addAll(SearchText.words(token));
+            }
+        }
+        return List.copyOf(resolved);
+    }
+
+    private boolean hasPrefix(String token) {
+        String ceiling = postings.ceilingKey(token);
+        return ceiling != null && ceiling.startsWith(token);
+    }
+
+    // 1 for the whole term, between 0.5 and 1 for a prefix depending on how much of the term was typed
+    private static double tokenScore(String token, String term) {
+        if (!term.startsWith(token)) {
+            return 0;
+        }
+        return term.length() == token.length() ? 1 : 0.5 + 0.5 * token.length() / term.length();
+    }
+
+    private Set<String> fuzzyTerms(String token) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String variant : variants(token)) {
+            for (String term : deletions.getOrDefault(variant, new String[0])) {
+                if (!term.startsWith(token) && withinOneEdit(token, term)) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private void update(String term, List<Long> keys, boolean add) {
+        long[] current = postings.getOrDefault(term, NO_KEYS);
+        long[] delta = keys.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        long[] merged = add ? union(current, delta) : difference(current, delta);
+        if (merged.length == 0) {
+            if (postings.remove(term) != null && isFuzzy(term)) {
+                variants(term).forEach(variant -> deletions.computeIfPresent(variant, (v, terms) -> without(terms, term)));
+            }
+        } else {
+            postings.put(term, merged);
+            if (current.length == 0 && isFuzzy(term)) {
+                variants(term).forEach(variant -> deletions.merge(variant, new String[] {term}, SearchIndex::with));
+            }
+        }
+    }
+
+    private static boolean isFuzzy(String term) {
+        return term.length() >= FUZZY_MIN_LENGTH && term.chars().allMatch(Character::isLetter);
+    }
+
+    // The term itself and each way of deleting one character from it
+    private static Set<String> variants(String term) {
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(term);
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    // Optimal string alignment distance <= 1: one insertion, deletion, substitution or adjacent swap
+    static boolean withinOneEdit(String a, String b) {
+        if (Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (a.length() == b.length()) {
+            return a.regionMatches(i + 1, b, i + 1, a.length() - i - 1)
+                    || (i + 1 < a.length() && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                            && a.regionMatches(i + 2, b, i + 2, a.length() - i - 2));
+        }
+        String longer = a.length() > b.length() ? a : b;
+        String shorter = longer == a ? b : a;
+        return longer.regionMatches(i + 1, shorter, i, shorter.length() - i);
+    }
+
+    private static String[] with(String[] terms, String[] added) {
+        String[] result = Arrays.copyOf(terms, terms.length + 1);
+        result[terms.length] = added[0];
+        return result;
+    }
+
+    private static String[] without(String[] terms, String removed) {
+        String[] result = Arrays.stream(terms).filter(term -> !term.equals(removed)).toArray(String[]::new);
+        return result.length == 0 ? null : result;
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            long next = j == b.length || (i < a.length && a[i] <= b[j]) ? a[i] : b[j];
+            if (i < a.length && a[i] == next) {
+                i++;
+            }
+            if (j < b.length && b[j] == next) {
+                j++;
+            }
+            result[n++] = next;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    private static long[] difference(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        int n = 0;
+        for (long key : a) {
+            if (Arrays.binarySearch(b, key) < 0) {
+                result[n++] = key;
+            }
+        }
+        return n == result.length ? a : Arrays.copyOf(result, n);
+    }
+
+    // One query's walk over posting lists: the shared budget, the documents already scored, the top-k
+    private final class Scan {
+        private final List<String> others;
+        private final SearchType type;
+        private final Ranking ranking;
+        private final Set<Long> seen = new HashSet<>();
+        private int budget = CANDIDATE_BUDGET;
+
+        Scan(List<String> others, SearchType type, Ranking ranking) {
+            this.others = others;
+            this.type = type;
+            this.ranking = ranking;
+        }
+
+        // false once the budget is spent
+        boolean accept(long[] keys, double driverScore) {
+            if (budget-- <= 0) {
+                return false;
+            }
+            // Every other token adds at most 1; keys ascend, so once one can't make the top-k none after it can
+            double best = driverScore + others.size();
+            for (long key : keys) {
+                if (!ranking.admits(best, key)) {
+                    return true;
+                }
+                if (budget-- <= 0) {
+                    return false;
+                }
+                if (seen.add(key)) {
+                    consider(key, driverScore);
+                }
+            }
+            return true;
+        }
+
+        private void consider(long key, double driverScore) {
+            SearchDocument document = documents.get(key);
+            if (document == null || (type != null && document.type() != type)) {
+                return;
+            }
+            double score = driverScore;
+            for (String token : others) {
+                double best = 0;
+                for (String term : document.terms()) {
+                    best = Math.max(best, tokenScore(token, term));
+                }
+                if (best == 0) {
+                    return;
+                }
+                score += best;
+            }
+            ranking.offer(new SearchHit(document, score));
+        }
+    }
+
+    // Bounded top-k: the worst kept hit sits at the head and is dropped once the limit is exceeded
+    private static final class Ranking {
+        private final int limit;
+        private final PriorityQueue<SearchHit> hits;
+
+        Ranking(int limit) {
+            this.limit = limit;
+            this.hits = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+
+        void offer(SearchHit hit) {
+            hits.offer(hit);
+            if (hits.size() > limit) {
+                hits.poll();
+            }
+        }
+
+        boolean isFull() {
+            return hits.size() >= limit;
+        }
+
+        boolean admits(double score, long key) {
+            if (!isFull()) {
+                return true;
+            }
+            SearchHit worst = hits.peek();
+            return score > worst.score() || (score == worst.score() && key < worst.document().key());
+        }
+
+        List<SearchHit> sorted() {
+            List<SearchHit> sorted = new ArrayList<>(hits);
+            sorted.sort(RANKING);
+            return sorted;
+        }
+    }
+}
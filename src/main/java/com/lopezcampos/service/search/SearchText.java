@@ -0,0 +1,67 @@
+package com.lopezcampos.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization shared by indexing and querying: lower case, accents stripped, so
+ * "García" is found by "garcia". Terms are cut at MAX_TERM_LENGTH, which bounds the memory of one term;
+ * a longer query token is cut the same way and still matches by prefix.
+ */
+public final class SearchText {
+
+    public static final int MAX_TERM_LENGTH = 40;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private SearchText() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase(Locale.ROOT).trim();
+    }
+
+    // Free text (names, specialty, course name): one term per word
+    public static List<String> words(String value) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(normalize(value))) {
+            if (!word.isEmpty()) {
+                words.add(cut(word));
+            }
+        }
+        return words;
+    }
+
+    // Identifiers (dni, email, course code): the whole value is one term, punctuation included
+    public static String keyword(String value) {
+        return cut(SPACES.matcher(normalize(value)).replaceAll(""));
+    }
+
+    // Query tokens are split on whitespace only, so "ana.garcia@" can still prefix-match an email
+    public static List<String> queryTokens(String query) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : SPACES.split(normalize(query))) {
+            if (!token.isEmpty() && !tokens.contains(cut(token))) {
+                tokens.add(cut(token));
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isWord(String token) {
+        return !NON_WORD.matcher(token).find();
+    }
+
+    private static String cut(String term) {
+        return term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term;
+    }
+}
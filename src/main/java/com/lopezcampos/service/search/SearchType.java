@@ -0,0 +1,22 @@
+package com.lopezcampos.service.search;
+
+import com.lopezcampos.exception.search.InvalidSearchTypeException;
+
+public enum SearchType {
+    STUDENT,
+    TEACHER,
+    COURSE;
+
+    // Missing type means every type
+    public static SearchType from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (SearchType type : values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new InvalidSearchTypeException(value);
+    }
+}
@@ -0,0 +1,7 @@
+package com.lopezcampos.service.summary;
+
+import java.math.BigDecimal;
+
+// One row of a course's grade distribution
+public record GradeCount(String academicPeriod, String typeEvaluation, BigDecimal grade, long evaluations) {
+}
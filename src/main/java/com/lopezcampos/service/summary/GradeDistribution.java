@@ -0,0 +1,121 @@
+package com.lopezcampos.service.summary;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.lopezcampos.dto.response.CourseStatisticsResponseDto;
+import com.lopezcampos.dto.response.GradeStatisticsDto;
+import com.lopezcampos.dto.response.HistogramBucketDto;
+import com.lopezcampos.model.CourseGradeCountId;
+
+/**
+ * Exact grade distribution of one course: a count per (period, type, grade), sorted by grade.
+ * Every statistic is folded from it in one pass, without touching individual evaluations.
+ */
+public final class GradeDistribution {
+
+    // 0-20 scale in one-point buckets; the last one is closed so a 20.00 lands in [19, 20]
+    public static final int HISTOGRAM_BUCKETS = 20;
+
+    private final List<GradeCount> counts;
+
+    public GradeDistribution(List<GradeCount> counts) {
+        this.counts = List.copyOf(counts);
+    }
+
+    // academicPeriod null means all periods
+    public CourseStatisticsResponseDto statistics(Long idCourse, String academicPeriod) {
+        Accumulator overall = new Accumulator(CourseGradeCountId.NONE);
+        Map<String, Accumulator> byType = new TreeMap<>();
+        for (GradeCount row : counts) {
+            if (academicPeriod == null || academicPeriod.equals(row.academicPeriod())) {
+                overall.add(row);
+                byType.computeIfAbsent(row.typeEvaluation(), Accumulator::new).add(row);
+            }
+        }
+        return CourseStatisticsResponseDto.builder()
+                .idCourse(idCourse)
+                .academicPeriod(academicPeriod)
+                .overall(overall.toDto())
+                .byType(byType.values().stream().map(Accumulator::toDto).toList())
+                .build();
+    }
+
+    // Rows arrive in grade order, so equal grades are adjacent and min/max are the first and last seen
+    private static final class Accumulator {
+        private final String typeEvaluation;
+        private final List<GradeCount> runs = new ArrayList<>();
+        private final long[] histogram = new long[HISTOGRAM_BUCKETS];
+        private long count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+        Accumulator(String typeEvaluation) {
+            this.typeEvaluation = typeEvaluation;
+        }
+
+        void add(GradeCount row) {
+            BigDecimal weight = BigDecimal.valueOf(row.evaluations());
+            count += row.evaluations();
+            sum = sum.add(row.grade().multiply(weight));
+            sumOfSquares = sumOfSquares.add(row.grade().multiply(row.grade()).multiply(weight));
+            histogram[Math.min(Math.max(row.grade().intValue(), 0), HISTOGRAM_BUCKETS - 1)] += row.evaluations();
+            runs.add(row);
+        }
+
+        GradeStatisticsDto toDto() {
+            GradeStatisticsDto.GradeStatisticsDtoBuilder dto = GradeStatisticsDto.builder()
+                    .typeEvaluation(CourseGradeCountId.NONE.equals(typeEvaluation) ? null : typeEvaluation)
+                    .count(count)
+                    .histogram(histogram());
+            if (count == 0) {
+                return dto.build();
+            }
+            BigDecimal n = BigDecimal.valueOf(count);
+            BigDecimal mean = sum.divide(n, MathContext.DECIMAL64);
+            BigDecimal variance = sumOfSquares.divide(n, MathContext.DECIMAL64).subtract(mean.multiply(mean)).max(BigDecimal.ZERO);
+            BigDecimal[] percentiles = percentiles(0.25, 0.50, 0.75, 0.90);
+            return dto
+                    .mean(mean.setScale(2, RoundingMode.HALF_UP))
+                    .min(runs.get(0).grade())
+                    .max(runs.get(runs.size() - 1).grade())
+                    .standardDeviation(variance.sqrt(MathContext.DECIMAL64).setScale(2, RoundingMode.HALF_UP))
+                    .percentile25(percentiles[0])
+                    .median(percentiles[1])
+                    .percentile75(percentiles[2])
+                    .percentile90(percentiles[3])
+                    .build();
+        }
+
+        // Nearest rank, all requested percentiles in one cumulative walk
+        private BigDecimal[] percentiles(double... ps) {
+            BigDecimal[] result = new BigDecimal[ps.length];
+            int next = 0;
+            long cumulative = 0;
+            for (GradeCount run : runs) {
+                cumulative += run.evaluations();
+                while (next < ps.length && cumulative >= Math.max(1, (long) Math.ceil(ps[next] * count))) {
+                    result[next++] = run.grade();
+                }
+            }
+            return result;
+        }
+
+        private List<HistogramBucketDto> histogram() {
+            List<HistogramBucketDto> buckets = new ArrayList<>(HISTOGRAM_BUCKETS);
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                buckets.add(HistogramBucketDto.builder()
+                        .from(BigDecimal.valueOf(i))
+                        .to(BigDecimal.valueOf(i + 1L))
+                        .count(histogram[i])
+                        .build());
+            }
+            return buckets;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.lopezcampos.service.summary;
+
+import java.math.BigDecimal;
+
+// One evaluation as the read models see it
+public record GradeEntry(String typeEvaluation, BigDecimal grade) {
+}
@@ -0,0 +1,52 @@
+package com.lopezcampos.service.summary;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Change to one student/period summary row. Every write builds the contribution of the rows it touches
+ * before and after, and the difference is added to the stored totals in place.
+ */
+public record SummaryDelta(long matriculations, long credits, long evaluations, long gradedEvaluations,
+                           BigDecimal weightedGradeSum, long gradeWeight) {
+
+    public static final SummaryDelta ZERO = new SummaryDelta(0, 0, 0, 0, BigDecimal.ZERO, 0);
+
+    // One evaluation, weighted by the credits of its course; ungraded ones only count
+    public static SummaryDelta ofEvaluation(BigDecimal grade, Integer courseCredits) {
+        if (grade == null) {
+            return new SummaryDelta(0, 0, 1, 0, BigDecimal.ZERO, 0);
+        }
+        long weight = credits(courseCredits);
+        return new SummaryDelta(0, 0, 1, 1, grade.multiply(BigDecimal.valueOf(weight)), weight);
+    }
+
+    // A matriculation together with all of its evaluations
+    public static SummaryDelta ofMatriculation(Integer courseCredits, List<GradeEntry> evaluations) {
+        SummaryDelta delta = new SummaryDelta(1, credits(courseCredits), 0, 0, BigDecimal.ZERO, 0);
+        for (GradeEntry evaluation : evaluations) {
+            delta = delta.plus(ofEvaluation(evaluation.grade(), courseCredits));
+        }
+        return delta;
+    }
+
+    public SummaryDelta plus(SummaryDelta other) {
+        return new SummaryDelta(matriculations + other.matriculations, credits + other.credits,
+                evaluations + other.evaluations, gradedEvaluations + other.gradedEvaluations,
+                weightedGradeSum.add(other.weightedGradeSum), gradeWeight + other.gradeWeight);
+    }
+
+    public SummaryDelta negate() {
+        return new SummaryDelta(-matriculations, -credits, -evaluations, -gradedEvaluations,
+                weightedGradeSum.negate(), -gradeWeight);
+    }
+
+    public boolean isZero() {
+        return matriculations == 0 && credits == 0 && evaluations == 0 && gradedEvaluations == 0
+                && weightedGradeSum.signum() == 0 && gradeWeight == 0;
+    }
+
+    private static long credits(Integer courseCredits) {
+        return courseCredits == null ? 0 : courseCredits;
+    }
+}
@@ -0,0 +1,105 @@
+-- Baseline: the schema ddl-auto=update used to build, with named constraints.
+-- Databases created that way are baselined at 1.1 (spring.flyway.baseline-version) and start at V2.
+
+create table teachers (
+    id_teacher bigint not null,
+    version bigint default 0 not null,
+    name varchar(100) not null,
+    surname varchar(100) not null,
+    dni varchar(20) not null,
+    email varchar(150) not null,
+    phone varchar(20),
+    specialty varchar(100),
+    status varchar(20),
+    primary key (id_teacher),
+    constraint uk_teachers_dni unique (dni),
+    constraint uk_teachers_email unique (email)
+);
+
+create table students (
+    id_student bigint not null,
+    version bigint default 0 not null,
+    name varchar(100) not null,
+    surname varchar(100) not null,
+    dni varchar(20) not null,
+    email varchar(150) not null,
+    phone varchar(20),
+    address varchar(255),
+    birth_date date,
+    enrollment_date date,
+    status varchar(20),
+    primary key (id_student),
+    constraint uk_students_dni unique (dni),
+    constraint uk_students_email unique (email)
+);
+
+create table courses (
+    id_course bigint not null,
+    version bigint default 0 not null,
+    name varchar(150) not null,
+    code varchar(20) not null,
+    credits integer,
+    semester integer,
+    id_teacher bigint not null,
+    primary key (id_course),
+    constraint uk_courses_code unique (code),
+    constraint fk_courses_teacher foreign key (id_teacher) references teachers (id_teacher)
+);
+
+create table matriculations (
+    id_matriculation bigint not null,
+    version bigint default 0 not null,
+    academic_period varchar(20),
+    matriculation_date date,
+    matriculation_status varchar(20),
+    id_student bigint not null,
+    id_course bigint not null,
+    primary key (id_matriculation),
+    constraint fk_matriculations_student foreign key (id_student) references students (id_student),
+    constraint fk_matriculations_course foreign key (id_course) references courses (id_course)
+);
+
+create table evaluations (
+    id_evaluation bigint not null,
+    version bigint default 0 not null,
+    type_evaluation varchar(50),
+    grade decimal(5,2),
+    date date,
+    id_matriculation bigint not null,
+    primary key (id_evaluation),
+    constraint fk_evaluations_matriculation foreign key (id_matriculation) references matriculations (id_matriculation)
+);
+
+create table schedules (
+    id_schedule bigint not null,
+    version bigint default 0 not null,
+    day_of_week varchar(20) not null,
+    start_time time(6) not null,
+    end_time time(6) not null,
+    classroom varchar(50),
+    id_course bigint not null,
+    primary key (id_schedule),
+    constraint fk_schedules_course foreign key (id_course) references courses (id_course)
+);
+
+create table student_summaries (
+    id_student bigint not null,
+    academic_period varchar(20) not null,
+    matriculations bigint not null,
+    credits bigint not null,
+    evaluations bigint not null,
+    graded_evaluations bigint not null,
+    weighted_grade_sum decimal(19,2) not null,
+    grade_weight bigint not null,
+    primary key (id_student, academic_period)
+);
+
+-- Key order as ddl-auto generated it; V2 puts the course first
+create table course_grade_counts (
+    id_course bigint not null,
+    academic_period varchar(20) not null,
+    type_evaluation varchar(50) not null,
+    grade decimal(5,2) not null,
+    evaluations bigint not null,
+    primary key (grade, id_course, academic_period, type_evaluation)
+);
@@ -0,0 +1,18 @@
+-- Indexes for the access paths the repositories use. On MySQL each composite index that starts
+-- with a foreign key column also replaces the index InnoDB created implicitly for that key.
+
+-- A student's matriculations per period (summaries, timetable) and a course's students per period (statistics)
+create index idx_matriculations_student_period on matriculations (id_student, academic_period);
+create index idx_matriculations_course_period on matriculations (id_course, academic_period);
+-- Period exports; InnoDB appends the primary key, so "order by id_matriculation" reads in index order
+create index idx_matriculations_period on matriculations (academic_period);
+
+-- Covers the grade entries of a matriculation without touching the rows
+create index idx_evaluations_matriculation on evaluations (id_matriculation, type_evaluation, grade);
+
+create index idx_courses_teacher on courses (id_teacher);
+create index idx_schedules_course on schedules (id_course);
+
+-- Grade counts are always read and rebuilt per course
+alter table course_grade_counts drop primary key;
+alter table course_grade_counts add primary key (id_course, academic_period, type_evaluation, grade);
@@ -0,0 +1,12 @@
+-- Tombstones for the entities that own dependents: a delete flags the row and everything under it,
+-- every read filters the flag, and the background purge removes the rows in bounded chunks.
+alter table students add column deleted boolean default false not null;
+alter table teachers add column deleted boolean default false not null;
+alter table courses add column deleted boolean default false not null;
+alter table matriculations add column deleted boolean default false not null;
+
+-- The purge finds its work by flag; tombstones are few and short-lived, so these stay selective
+create index idx_students_deleted on students (deleted);
+create index idx_teachers_deleted on teachers (deleted);
+create index idx_courses_deleted on courses (deleted);
+create index idx_matriculations_deleted on matriculations (deleted);
@@ -0,0 +1,7 @@
+-- Native sequences; the increment matches the generators' allocationSize
+create sequence teachers_seq start with 1 increment by 50;
+create sequence students_seq start with 1 increment by 50;
+create sequence courses_seq start with 1 increment by 50;
+create sequence matriculations_seq start with 1 increment by 50;
+create sequence evaluations_seq start with 1 increment by 50;
+create sequence schedules_seq start with 1 increment by 50;
@@ -0,0 +1,26 @@
+-- Seeds every id sequence above the ids its table already holds (see the MySQL script). The pooled
+-- optimizer takes the value returned as the top of a block of 50, so the floor is max(id) + 50.
+
+create sequence if not exists teachers_seq start with 1 increment by 50;
+alter sequence teachers_seq restart with (select greatest(coalesce(max(id_teacher), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'teachers_seq')) from teachers);
+
+create sequence if not exists students_seq start with 1 increment by 50;
+alter sequence students_seq restart with (select greatest(coalesce(max(id_student), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'students_seq')) from students);
+
+create sequence if not exists courses_seq start with 1 increment by 50;
+alter sequence courses_seq restart with (select greatest(coalesce(max(id_course), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'courses_seq')) from courses);
+
+create sequence if not exists matriculations_seq start with 1 increment by 50;
+alter sequence matriculations_seq restart with (select greatest(coalesce(max(id_matriculation), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'matriculations_seq')) from matriculations);
+
+create sequence if not exists evaluations_seq start with 1 increment by 50;
+alter sequence evaluations_seq restart with (select greatest(coalesce(max(id_evaluation), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'evaluations_seq')) from evaluations);
+
+create sequence if not exists schedules_seq start with 1 increment by 50;
+alter sequence schedules_seq restart with (select greatest(coalesce(max(id_schedule), 0) + 50,
+    (select base_value from information_schema.sequences where sequence_name = 'schedules_seq')) from schedules);
@@ -0,0 +1,27 @@
+-- dni and email are unique among live students and teachers only, so a delete frees them at once instead of
+-- when the purge removes the tombstone. The live_* columns are NULL on a tombstone, and a unique index admits
+-- any number of NULLs. V1 named the old keys uk_*; databases adopted from ddl-auto carry Hibernate's UK<hash>.
+alter table students drop constraint if exists uk_students_dni;
+alter table students drop constraint if exists UKcltsim0p5hahzz57zx8n231r8;
+alter table students drop constraint if exists uk_students_email;
+alter table students drop constraint if exists UK97kyx7mj6yz1lnkym1vyw5dad;
+alter table teachers drop constraint if exists uk_teachers_dni;
+alter table teachers drop constraint if exists UKfzv2lqkymywtjjdn3m99wikye;
+alter table teachers drop constraint if exists uk_teachers_email;
+alter table teachers drop constraint if exists UK1iu1va8y0gwa45ff3qnaxtb26;
+
+alter table students add column live_dni varchar(20) generated always as (case when deleted then null else dni end);
+alter table students add column live_email varchar(150) generated always as (case when deleted then null else email end);
+alter table teachers add column live_dni varchar(20) generated always as (case when deleted then null else dni end);
+alter table teachers add column live_email varchar(150) generated always as (case when deleted then null else email end);
+
+create unique index uk_students_dni on students (live_dni);
+create unique index uk_students_email on students (live_email);
+create unique index uk_teachers_dni on teachers (live_dni);
+create unique index uk_teachers_email on teachers (live_email);
+
+-- The lookups by dni and email used to ride on the unique keys
+create index idx_students_dni on students (dni);
+create index idx_students_email on students (email);
+create index idx_teachers_dni on teachers (dni);
+create index idx_teachers_email on teachers (email);
@@ -0,0 +1,13 @@
+-- MySQL has no sequences: Hibernate emulates each pooled generator with a one-row table
+create table teachers_seq (next_val bigint);
+insert into teachers_seq values (1);
+create table students_seq (next_val bigint);
+insert into students_seq values (1);
+create table courses_seq (next_val bigint);
+insert into courses_seq values (1);
+create table matriculations_seq (next_val bigint);
+insert into matriculations_seq values (1);
+create table evaluations_seq (next_val bigint);
+insert into evaluations_seq values (1);
+create table schedules_seq (next_val bigint);
+insert into schedules_seq values (1);
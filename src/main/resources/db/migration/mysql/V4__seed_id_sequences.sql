@@ -0,0 +1,28 @@
+-- Seeds every id sequence above the ids its table already holds. Databases from the IDENTITY era are
+-- baselined past V1_1, so their *_seq tables are missing or still at the 1 ddl-auto inserted.
+-- The pooled optimizer reads next_val as the top of its next block of 50 and hands out next_val - 49 up to
+-- next_val, so the floor is max(id) + 50; a sequence already past it is left alone.
+
+create table if not exists teachers_seq (next_val bigint);
+insert into teachers_seq (next_val) select 1 from dual where not exists (select * from teachers_seq);
+update teachers_seq set next_val = greatest(next_val, (select coalesce(max(id_teacher), 0) + 50 from teachers));
+
+create table if not exists students_seq (next_val bigint);
+insert into students_seq (next_val) select 1 from dual where not exists (select * from students_seq);
+update students_seq set next_val = greatest(next_val, (select coalesce(max(id_student), 0) + 50 from students));
+
+create table if not exists courses_seq (next_val bigint);
+insert into courses_seq (next_val) select 1 from dual where not exists (select * from courses_seq);
+update courses_seq set next_val = greatest(next_val, (select coalesce(max(id_course), 0) + 50 from courses));
+
+create table if not exists matriculations_seq (next_val bigint);
+insert into matriculations_seq (next_val) select 1 from dual where not exists (select * from matriculations_seq);
+update matriculations_seq set next_val = greatest(next_val, (select coalesce(max(id_matriculation), 0) + 50 from matriculations));
+
+create table if not exists evaluations_seq (next_val bigint);
+insert into evaluations_seq (next_val) select 1 from dual where not exists (select * from evaluations_seq);
+update evaluations_seq set next_val = greatest(next_val, (select coalesce(max(id_evaluation), 0) + 50 from evaluations));
+
+create table if not exists schedules_seq (next_val bigint);
+insert into schedules_seq (next_val) select 1 from dual where not exists (select * from schedules_seq);
+update schedules_seq set next_val = greatest(next_val, (select coalesce(max(id_schedule), 0) + 50 from schedules));
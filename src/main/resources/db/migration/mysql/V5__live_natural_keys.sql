@@ -0,0 +1,49 @@
+-- dni and email are unique among live students and teachers only, so a delete frees them at once instead of
+-- when the purge removes the tombstone. The live_* columns are NULL on a tombstone, and a unique index admits
+-- any number of NULLs. V1 named the old keys uk_*, ddl-auto named them UK<hash>: each is found by its column.
+
+select coalesce(concat('alter table students drop index ', max(index_name)), 'do 0') into @drop_key
+from information_schema.statistics
+where table_schema = database() and table_name = 'students' and column_name = 'dni' and non_unique = 0;
+prepare drop_key from @drop_key;
+execute drop_key;
+deallocate prepare drop_key;
+
+select coalesce(concat('alter table students drop index ', max(index_name)), 'do 0') into @drop_key
+from information_schema.statistics
+where table_schema = database() and table_name = 'students' and column_name = 'email' and non_unique = 0;
+prepare drop_key from @drop_key;
+execute drop_key;
+deallocate prepare drop_key;
+
+select coalesce(concat('alter table teachers drop index ', max(index_name)), 'do 0') into @drop_key
+from information_schema.statistics
+where table_schema = database() and table_name = 'teachers' and column_name = 'dni' and non_unique = 0;
+prepare drop_key from @drop_key;
+execute drop_key;
+deallocate prepare drop_key;
+
+select coalesce(concat('alter table teachers drop index ', max(index_name)), 'do 0') into @drop_key
+from information_schema.statistics
+where table_schema = database() and table_name = 'teachers' and column_name = 'email' and non_unique = 0;
+prepare drop_key from @drop_key;
+execute drop_key;
+deallocate prepare drop_key;
+
+-- Virtual: computed on read, only the unique indexes store them. The lookups by dni and email used to ride
+-- on the unique keys, hence the plain indexes
+alter table students
+    add column live_dni varchar(20) as (case when deleted then null else dni end) virtual,
+    add column live_email varchar(150) as (case when deleted then null else email end) virtual,
+    add unique index uk_students_dni (live_dni),
+    add unique index uk_students_email (live_email),
+    add index idx_students_dni (dni),
+    add index idx_students_email (email);
+
+alter table teachers
+    add column live_dni varchar(20) as (case when deleted then null else dni end) virtual,
+    add column live_email varchar(150) as (case when deleted then null else email end) virtual,
+    add unique index uk_teachers_dni (live_dni),
+    add unique index uk_teachers_email (live_email),
+    add index idx_teachers_dni (dni),
+    add index idx_teachers_email (email);
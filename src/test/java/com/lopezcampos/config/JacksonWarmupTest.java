@@ -0,0 +1,51 @@
+package com.lopezcampos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.dto.response.ScheduleResponseDto;
+
+@SpringBootTest(properties = "educateapp.purge.enabled=false")
+class JacksonWarmupTest {
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JacksonWarmup jacksonWarmup;
+
+    // HAL is written by copies of the application mapper, so they need the module and a warm cache of their own
+    @Test
+    void applicationAndHalMappersHaveGeneratedAccessorsAndResolvedSerializers() {
+        int responses = JacksonWarmup.dtoClasses(JacksonWarmup.RESPONSE_DTOS).size();
+        assertThat(responses).isGreaterThan(10);
+        List<ObjectMapper> halMappers = jacksonWarmup.halMappers();
+        assertThat(halMappers).isNotEmpty();
+
+        for (ObjectMapper mapper : Stream.concat(Stream.of(objectMapper), halMappers.stream()).toList()) {
+            assertThat(mapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+            assertThat(((DefaultSerializerProvider) mapper.getSerializerProviderInstance()).cachedSerializersCount())
+                    .isGreaterThanOrEqualTo(responses);
+        }
+    }
+
+    @Test
+    void datesAndTimesStayIsoStrings() throws Exception {
+        String schedule = objectMapper.writeValueAsString(ScheduleResponseDto.builder()
+                .startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(9, 30, 15)).build());
+        String evaluation = objectMapper.writeValueAsString(EvaluationResponseDto.builder()
+                .date(LocalDate.of(2040, 1, 15)).build());
+
+        assertThat(schedule).contains("\"startTime\":\"08:00:00\"", "\"endTime\":\"09:30:15\"");
+        assertThat(evaluation).contains("\"date\":\"2040-01-15\"");
+    }
+}
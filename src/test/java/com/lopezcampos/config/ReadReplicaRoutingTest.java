@@ -0,0 +1,191 @@
+package com.lopezcampos.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.StudentResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primary and replica are two separate in-memory H2 databases with the same schema and no replication
+ * between them, so where a read was served shows in what it finds. The replica reports its lag from a
+ * table the test controls; health checks are run by hand.
+ */
+@SpringBootTest(properties = {
+        "educateapp.datasource.replicas=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "educateapp.datasource.replica-lag-query=select seconds from replica_lag",
+        "educateapp.datasource.replica-max-lag=5s",
+        "educateapp.datasource.replica-check-interval=1h"})
+@AutoConfigureMockMvc
+@Import(ReadReplicaRoutingTest.ReadThenWriteController.class)
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:educateapp-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private ReadReplicaDataSource readReplicaDataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+
+    // Before the context starts, so the first health check already finds a replica in sync
+    @BeforeAll
+    static void replicaSchema() throws SQLException {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load().migrate();
+        onReplica("create table if not exists replica_lag (seconds int)",
+                "delete from replica_lag", "insert into replica_lag values (0)");
+    }
+
+    @Test
+    void readOnlyCallsGoToTheReplicaAndWritesToThePrimary() throws SQLException {
+        Long id = studentService.create(student("S-RR1", "Primary")).getIdStudent();
+        assertThatThrownBy(() -> studentService.getById(id)).isInstanceOf(NotFoundException.class);
+
+        onReplica("insert into students (id_student, version, name, surname, dni, email)"
+                + " values (" + id + ", 0, 'Replicated', 'Student', 'S-RR1', 's-rr1@students.test')");
+        assertThat(studentService.getById(id).getName()).isEqualTo("Replicated");
+
+        // The update's own lookup runs in a read-write transaction, on the primary
+        studentService.update(id, student("S-RR1", "Updated"), null);
+        assertThat(jdbcTemplate.queryForObject("select name from students where id_student = ?", String.class, id))
+                .isEqualTo("Updated");
+        assertThat(studentService.getById(id).getName()).isEqualTo("Replicated");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() throws SQLException {
+        Long id = studentService.create(student("S-RR2", "Primary")).getIdStudent();
+        double fallbacks = meterRegistry.get("educateapp.datasource.replica.fallbacks").counter().count();
+        try {
+            onReplica("update replica_lag set seconds = 60");
+            readReplicaDataSource.checkReplicas();
+            assertThat(healthy()).isZero();
+            assertThat(studentService.getById(id).getName()).isEqualTo("Primary");
+            assertThat(meterRegistry.get("educateapp.datasource.replica.fallbacks").counter().count())
+                    .isGreaterThan(fallbacks);
+        } finally {
+            onReplica("update replica_lag set seconds = 0");
+            readReplicaDataSource.checkReplicas();
+        }
+        assertThat(healthy()).isOne();
+        assertThatThrownBy(() -> studentService.getById(id)).isInstanceOf(NotFoundException.class);
+    }
+
+    // One request, a read then a write: the write must not inherit the replica connection the read was given
+    @Test
+    void writeAfterAReadInTheSameRequestGoesToThePrimary() throws Exception {
+        Long id = studentService.create(student("S-RR3", "Primary")).getIdStudent();
+        onReplica("insert into students (id_student, version, name, surname, dni, email)"
+                + " values (" + id + ", 0, 'Replicated', 'Student', 'S-RR3', 's-rr3@students.test')");
+
+        mockMvc.perform(put("/test/students/{id}/name", id).param("name", "Updated"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Replicated"));
+
+        assertThat(jdbcTemplate.queryForObject("select name from students where id_student = ?", String.class, id))
+                .isEqualTo("Updated");
+        assertThat(studentService.getById(id).getName()).isEqualTo("Replicated");
+    }
+
+    // Reads served by a replica that is behind, yet still within max-lag, must not outlive its catching up
+    @Test
+    void staleReplicaReadsAreNotCached() throws Exception {
+        Long id = teacherService.create(teacher("T-RR5", "Primary")).getIdTeacher();
+        onReplica("insert into teachers (id_teacher, version, name, surname, dni, email)"
+                + " values (" + id + ", 0, 'Primary', 'Teacher', 'T-RR5', 't-rr5@teachers.test')");
+        teacherService.update(id, teacher("T-RR5", "Updated"), null);
+
+        String staleEtag = mockMvc.perform(get("/api/teachers/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // The reference cache lost its entry (size, TTL); the miss is filled from the primary
+        cacheManager.getCache(CacheConfig.TEACHERS).clear();
+        assertThat(teacherService.getById(id).getName()).isEqualTo("Updated");
+
+        onReplica("update teachers set version = 1, name = 'Updated' where id_teacher = " + id);
+        mockMvc.perform(get("/api/teachers/{id}", id).header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.name").value("Updated"));
+        assertThat(teacherService.getById(id).getName()).isEqualTo("Updated");
+    }
+
+    private double healthy() {
+        return meterRegistry.get("educateapp.datasource.replica.healthy").tag("replica", "replica-1").gauge().value();
+    }
+
+    private static TeacherRequestDto teacher(String dni, String name) {
+        return TeacherRequestDto.builder()
+                .name(name).surname("Teacher").dni(dni).email(dni.toLowerCase() + "@teachers.test").build();
+    }
+
+    private static StudentRequestDto student(String dni, String name) {
+        return StudentRequestDto.builder()
+                .name(name).surname("Student").dni(dni).email(dni.toLowerCase() + "@students.test").build();
+    }
+
+    @RestController
+    static class ReadThenWriteController {
+
+        private final StudentServiceImpl studentService;
+
+        ReadThenWriteController(StudentServiceImpl studentService) {
+            this.studentService = studentService;
+        }
+
+        // Answers the name the read saw
+        @PutMapping("/test/students/{id}/name")
+        String rename(@PathVariable Long id, @RequestParam String name) {
+            StudentResponseDto current = studentService.getById(id);
+            studentService.update(id, student(current.getDni(), name), null);
+            return current.getName();
+        }
+    }
+
+    private static void onReplica(String... statements) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.lopezcampos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+import com.lopezcampos.service.interface_.Cursor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @SpyBean private TeacherServiceImpl teacherService;
+
+    private static int seq;
+
+    private String key;
+    private Long teacherId;
+
+    @BeforeEach
+    void seed() {
+        key = "ETAG" + seq++;
+        teacherId = teacherService.create(teacher("Etag")).getIdTeacher();
+    }
+
+    @Test
+    void unchangedResourceAnswers304() throws Exception {
+        String etag = mockMvc.perform(get("/api/teachers/{id}", teacherId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/teachers/{id}", teacherId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Plain JSON is a different representation, so it must not match the HAL tag
+        mockMvc.perform(get("/api/teachers/{id}", teacherId)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateChangesEtagAndRejectsStaleIfMatch() throws Exception {
+        String etag = mockMvc.perform(get("/api/teachers/{id}", teacherId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/teachers/{id}", teacherId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(teacher("Renamed"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        String newEtag = mockMvc.perform(get("/api/teachers/{id}", teacherId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(put("/api/teachers/{id}", teacherId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(teacher("Lost"))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("VERSION_001"));
+    }
+
+    // The 304 probe ran before an edit landed; the 200 that follows carries the tag of the body it sends
+    @Test
+    void etagOfA200DescribesItsBody() throws Exception {
+        String probed = teacherService.getVersionTag(teacherId);
+        teacherService.update(teacherId, teacher("Edited"), null);
+        doReturn(probed).when(teacherService).getVersionTag(teacherId);
+
+        mockMvc.perform(get("/api/teachers/{id}", teacherId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Edited"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void pageEtagTracksContent() throws Exception {
+        // Page starting at the seeded teacher, so the update below is inside it
+        String page = "/api/teachers?size=5&cursor=" + Cursor.after(teacherId - 1).encode();
+        String etag = mockMvc.perform(get(page))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(page).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        teacherService.update(teacherId, teacher("Changed"), null);
+
+        mockMvc.perform(get(page).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private TeacherRequestDto teacher(String name) {
+        return TeacherRequestDto.builder()
+                .name(name).surname("Conditional").dni("T-" + key).email(key + "@teachers.test")
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.lopezcampos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportControllerTest {
+
+    private static final String PERIOD = "2031-2";
+    private static final int STUDENTS = 600;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+
+    @BeforeAll
+    void seed() {
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Export").surname("Teacher").dni("T-EXP").email("export@teachers.test").build()).getIdTeacher();
+        Long courseId = courseService.create(CourseRequestDto.builder()
+                .name("Exporting").code("EXP").credits(4).semester(2).teacherId(teacherId).build()).getIdCourse();
+        for (int i = 0; i < STUDENTS; i++) {
+            Long studentId = studentService.create(StudentRequestDto.builder()
+                    .name("Student").surname("EXP" + i).dni("S-EXP" + i).email("exp" + i + "@students.test")
+                    .build()).getIdStudent();
+            matriculationService.create(MatriculationRequestDto.builder()
+                    .academicPeriod(PERIOD).studentId(studentId).courseId(courseId).build());
+        }
+    }
+
+    @Test
+    void streamsOneJsonObjectPerLineForThePeriod() throws Exception {
+        String body = export("/api/matriculations/export?academicPeriod=" + PERIOD);
+
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(STUDENTS);
+        assertThat(lines[0]).startsWith("{\"idMatriculation\":").contains("\"courseCode\":\"EXP\"");
+    }
+
+    @Test
+    void streamsCsvWithHeader() throws Exception {
+        String body = export("/api/students/export?format=csv&academicPeriod=" + PERIOD);
+
+        String[] lines = body.split("\n");
+        assertThat(lines[0]).startsWith("idStudent,name,surname,dni,email");
+        assertThat(lines).hasSize(STUDENTS + 1);
+    }
+
+    @Test
+    void unknownPeriodStreamsNothing() throws Exception {
+        assertThat(export("/api/evaluations/export?academicPeriod=1900-1")).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/students/export?format=xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("EXPORT_001"));
+    }
+
+    private String export(String uri) throws Exception {
+        MvcResult started = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
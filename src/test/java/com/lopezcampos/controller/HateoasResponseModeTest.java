@@ -0,0 +1,75 @@
+package com.lopezcampos.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HateoasResponseModeTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TeacherServiceImpl teacherService;
+
+    private Long teacherId;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < 3; i++) {
+            teacherId = teacherService.create(TeacherRequestDto.builder()
+                    .name("Hal").surname("Teacher" + i).dni("T-HAL" + i).email("hal" + i + "@teachers.test")
+                    .build()).getIdTeacher();
+        }
+    }
+
+    @Test
+    void halByDefaultWithOneLinkPerRelation() throws Exception {
+        mockMvc.perform(get("/api/teachers/{id}", teacherId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.self.href").value("http://localhost/api/teachers/" + teacherId))
+                .andExpect(jsonPath("$._links.all.href").value("http://localhost/api/teachers"))
+                .andExpect(jsonPath("$._links.update.href").value("http://localhost/api/teachers/" + teacherId));
+    }
+
+    @Test
+    void halCollectionKeepsPageLinks() throws Exception {
+        mockMvc.perform(get("/api/teachers?size=1").accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.teacherResponseDtoList", hasSize(1)))
+                .andExpect(jsonPath("$._links.self.href").value("http://localhost/api/teachers"))
+                .andExpect(jsonPath("$._links.next.href", notNullValue()));
+    }
+
+    @Test
+    void plainJsonDropsLinks() throws Exception {
+        mockMvc.perform(get("/api/teachers/{id}", teacherId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idTeacher").value(teacherId))
+                .andExpect(jsonPath("$._links").doesNotExist());
+
+        mockMvc.perform(get("/api/teachers?size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0]._links").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andExpect(jsonPath("$.prevCursor", nullValue()))
+                .andExpect(jsonPath("$.size").value(1));
+    }
+}
@@ -0,0 +1,48 @@
+package com.lopezcampos.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentServiceImpl studentService;
+
+    @Test
+    void layerTimersAndDataSourceMetricsAreScrapedAsPrometheusText() throws Exception {
+        Long id = studentService.create(StudentRequestDto.builder()
+                .name("Metric").surname("Student").dni("S-METRIC").email("metric@students.test").build()).getIdStudent();
+        mockMvc.perform(get("/api/students/{id}", id).accept(MediaTypes.HAL_JSON)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/students/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "educateapp_service_seconds_count{entity=\"student\",operation=\"getTagged\",outcome=\"success\"}")))
+                .andExpect(content().string(containsString(
+                        "educateapp_service_seconds_count{entity=\"student\",operation=\"getTagged\",outcome=\"error\"}")))
+                .andExpect(content().string(containsString(
+                        "educateapp_mapper_seconds_count{entity=\"student\",operation=\"toEntity\",outcome=\"success\"}")))
+                .andExpect(content().string(containsString(
+                        "educateapp_links_seconds_bucket{entity=\"student\",operation=\"model\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count")));
+    }
+}
@@ -0,0 +1,107 @@
+package com.lopezcampos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "educateapp.purge.enabled=false")
+@AutoConfigureMockMvc
+class NaturalKeyLookupTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ObjectMapper objectMapper;
+
+    @Test
+    void studentsTeachersAndCoursesResolveByNaturalKey() throws Exception {
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Natural").surname("Key").dni("S-NK1").email("natural.key@students.test").build()).getIdStudent();
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Natural").surname("Teacher").dni("T-NK1").email("natural@teachers.test").build()).getIdTeacher();
+        Long courseId = courseService.create(CourseRequestDto.builder()
+                .name("Natural keys").code("NK-101").credits(3).semester(1).teacherId(teacherId)
+                .build()).getIdCourse();
+
+        mockMvc.perform(get("/api/students/dni/S-NK1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idStudent").value(studentId));
+        mockMvc.perform(get("/api/students/email/natural.key@students.test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dni").value("S-NK1"));
+        mockMvc.perform(get("/api/teachers/email/natural@teachers.test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idTeacher").value(teacherId));
+        mockMvc.perform(get("/api/courses/code/NK-101"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idCourse").value(courseId));
+        mockMvc.perform(get("/api/teachers/dni/T-MISSING"))
+                .andExpect(status().isNotFound());
+    }
+
+    // The tombstone waits for the purge (off here), but its dni and email are free as soon as it is deleted
+    @Test
+    void deletedStudentsAndTeachersGiveUpTheirNaturalKeys() throws Exception {
+        StudentRequestDto student = StudentRequestDto.builder()
+                .name("Again").surname("Student").dni("S-NK2").email("again@students.test").build();
+        Long studentId = studentService.create(student).getIdStudent();
+        mockMvc.perform(post("/api/students").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(student)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("UNIQUE_001"));
+
+        mockMvc.perform(delete("/api/students/{id}", studentId)).andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/students").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(student)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/students/dni/S-NK2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idStudent").value(not(studentId.intValue())));
+
+        TeacherRequestDto teacher = TeacherRequestDto.builder()
+                .name("Again").surname("Teacher").dni("T-NK2").email("again@teachers.test").build();
+        Long teacherId = teacherService.create(teacher).getIdTeacher();
+        teacherService.delete(teacherId);
+        Long recreatedId = teacherService.create(teacher).getIdTeacher();
+        mockMvc.perform(get("/api/teachers/email/again@teachers.test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idTeacher").value(recreatedId));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from teachers where dni = 'T-NK2'", Long.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void migrationsOwnTheLookupIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_schema = 'public'", String.class);
+        assertThat(indexes).contains("idx_matriculations_student_period", "idx_matriculations_course_period",
+                "idx_evaluations_matriculation", "idx_courses_teacher", "idx_schedules_course",
+                "uk_students_dni", "uk_students_email", "uk_teachers_dni", "uk_teachers_email",
+                "idx_students_dni", "idx_students_email", "idx_teachers_dni", "idx_teachers_email");
+    }
+}
@@ -0,0 +1,270 @@
+package com.lopezcampos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * SQL statements per request, counted at the DataSource. Every endpoint has a declared budget, and the
+ * list, export, summary and statistics endpoints must issue the same number of statements for a small
+ * and a large result: a count that follows the row count is an N+1. Reads are measured cold, with the DTO,
+ * second-level and query caches emptied, so an N+1 can't hide behind them, and then warm (second call), the
+ * way they run in production once the caches are filled. The background purge is off: its statements would
+ * count against whatever request is being measured.
+ */
+@SpringBootTest(properties = "educateapp.purge.enabled=false")
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTest {
+
+    private static final String SMALL_PERIOD = "2040-1";
+    private static final String LARGE_PERIOD = "2040-2";
+    private static final int SMALL = 3;
+    private static final int LARGE = 40;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private ScheduleServiceImpl scheduleService;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long teacherId;
+    private Long smallCourseId;
+    private Long largeCourseId;
+    private final List<Long> studentIds = new ArrayList<>();
+    private Long matriculationId;
+    private Long evaluationId;
+    private Long scheduleId;
+
+    // The small course has SMALL students in SMALL_PERIOD, the large one LARGE students in LARGE_PERIOD,
+    // each matriculation with one graded evaluation; the first student takes both courses
+    @BeforeAll
+    void seed() {
+        teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Budget").surname("Teacher").dni("T-SQL").email("budget@teachers.test").build()).getIdTeacher();
+        smallCourseId = course("SQL-S");
+        largeCourseId = course("SQL-L");
+        for (int i = 0; i < LARGE; i++) {
+            studentIds.add(studentService.create(StudentRequestDto.builder()
+                    .name("Budget").surname("Student " + i).dni("S-SQL" + i).email("sql" + i + "@students.test")
+                    .build()).getIdStudent());
+            enroll(studentIds.get(i), largeCourseId, LARGE_PERIOD);
+            if (i < SMALL) {
+                matriculationId = enroll(studentIds.get(i), smallCourseId, SMALL_PERIOD);
+            }
+        }
+        scheduleId = scheduleService.create(ScheduleRequestDto.builder()
+                .dayOfWeek("FRIDAY").startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(9, 0))
+                .classroom("SQL-1").courseId(smallCourseId).build()).getIdSchedule();
+    }
+
+    @Test
+    void readsStayWithinBudget() throws Exception {
+        Long studentId = studentIds.get(0);
+        read(1, 1, get("/api/students").param("size", "20"));
+        read(2, 2, get("/api/students/{id}", studentId));
+        read(1, 1, get("/api/students/dni/{dni}", "S-SQL0"));
+        read(1, 1, get("/api/students/email/{email}", "sql0@students.test"));
+        read(2, 2, get("/api/students/{id}/summary", studentId));
+        read(1, 0, get("/api/teachers"));
+        read(2, 0, get("/api/teachers/{id}", teacherId));
+        read(1, 1, get("/api/teachers/dni/{dni}", "T-SQL"));
+        read(1, 1, get("/api/teachers/email/{email}", "budget@teachers.test"));
+        read(1, 0, get("/api/courses"));
+        read(2, 0, get("/api/courses/{id}", largeCourseId));
+        read(1, 1, get("/api/courses/code/{code}", "SQL-L"));
+        read(2, 0, get("/api/courses/{id}/statistics", largeCourseId));
+        read(1, 1, get("/api/matriculations"));
+        read(2, 2, get("/api/matriculations/{id}", matriculationId));
+        read(1, 1, get("/api/evaluations"));
+        read(2, 2, get("/api/evaluations/{id}", evaluationId));
+        read(1, 0, get("/api/schedules"));
+        read(2, 0, get("/api/schedules/{id}", scheduleId));
+        read(0, 0, get("/api/search").param("q", "budget"));
+        read(0, 0, get("/api/search/stats"));
+        read(0, 0, get("/api/cache/stats"));
+    }
+
+    @Test
+    void readsDoNotGrowWithResultSize() throws Exception {
+        for (String resource : List.of("students", "teachers", "courses", "matriculations", "evaluations", "schedules")) {
+            sameCount(get("/api/" + resource).param("size", "2"), get("/api/" + resource).param("size", "40"));
+        }
+        for (String export : List.of("students", "matriculations", "evaluations")) {
+            sameCount(get("/api/" + export + "/export").param("academicPeriod", SMALL_PERIOD),
+                    get("/api/" + export + "/export").param("academicPeriod", LARGE_PERIOD));
+        }
+        sameCount(get("/api/courses/{id}/statistics", smallCourseId), get("/api/courses/{id}/statistics", largeCourseId));
+        sameCount(get("/api/students/{id}/summary", studentIds.get(LARGE - 1)),
+                get("/api/students/{id}/summary", studentIds.get(0)));
+    }
+
+    @Test
+    void writesStayWithinBudget() throws Exception {
+        // Course writes check the teacher against the DTO cache; warm, as on a running instance
+        teacherService.getById(teacherId);
+        Long studentId = id(write(1, post("/api/students").contentType(MediaType.APPLICATION_JSON)
+                .content(json(StudentRequestDto.builder()
+                        .name("Write").surname("Budget").dni("S-SQLW").email("sqlw@students.test").build()))), "idStudent");
+        write(2, put("/api/students/{id}", studentId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(StudentRequestDto.builder()
+                        .name("Write").surname("Budgeted").dni("S-SQLW").email("sqlw@students.test").build())));
+        write(2, patch("/api/students/{id}", studentId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"phone\": \"600100200\"}"));
+        Long courseId = id(write(1, post("/api/courses").contentType(MediaType.APPLICATION_JSON)
+                .content(json(CourseRequestDto.builder()
+                        .name("Write budget").code("SQL-W").credits(2).semester(1).teacherId(teacherId).build()))), "idCourse");
+        Long enrolled = id(write(3, post("/api/matriculations").contentType(MediaType.APPLICATION_JSON)
+                .content(json(MatriculationRequestDto.builder()
+                        .academicPeriod(SMALL_PERIOD).studentId(studentId).courseId(courseId).build()))), "idMatriculation");
+        Long graded = id(write(4, post("/api/evaluations").contentType(MediaType.APPLICATION_JSON)
+                .content(json(evaluation(enrolled, "7.50")))), "idEvaluation");
+        write(5, put("/api/evaluations/{id}", graded).contentType(MediaType.APPLICATION_JSON)
+                .content(json(evaluation(enrolled, "8.25"))));
+        // Same student, period and course: the read models are left alone
+        write(2, put("/api/matriculations/{id}", enrolled).contentType(MediaType.APPLICATION_JSON)
+                .content(json(MatriculationRequestDto.builder().academicPeriod(SMALL_PERIOD).matriculationStatus("ACTIVE")
+                        .studentId(studentId).courseId(courseId).build())));
+        write(2, patch("/api/matriculations/{id}", enrolled).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"matriculationStatus\": \"COMPLETED\"}"));
+        write(2, patch("/api/evaluations/{id}", graded).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\": \"2040-01-22\"}"));
+        Long scheduled = id(write(1, post("/api/schedules").contentType(MediaType.APPLICATION_JSON)
+                .content(json(ScheduleRequestDto.builder()
+                        .dayOfWeek("SATURDAY").startTime(LocalTime.of(10, 0)).endTime(LocalTime.of(11, 0))
+                        .classroom("SQL-W").courseId(courseId).build()))), "idSchedule");
+        write(1, delete("/api/schedules/{id}", scheduled));
+        write(4, delete("/api/evaluations/{id}", graded));
+        write(5, delete("/api/matriculations/{id}", enrolled));
+        write(6, delete("/api/courses/{id}", courseId));
+        write(5, delete("/api/students/{id}", studentId));
+    }
+
+    private Long course(String code) {
+        return courseService.create(CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(4).semester(1).teacherId(teacherId).build()).getIdCourse();
+    }
+
+    private Long enroll(Long studentId, Long courseId, String period) {
+        Long id = matriculationService.create(MatriculationRequestDto.builder()
+                .academicPeriod(period).studentId(studentId).courseId(courseId).build()).getIdMatriculation();
+        Long graded = evaluationService.create(evaluation(id, "6.00")).getIdEvaluation();
+        if (evaluationId == null) {
+            evaluationId = graded;
+        }
+        return id;
+    }
+
+    private static EvaluationRequestDto evaluation(Long matriculationId, String grade) {
+        return EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").date(LocalDate.of(2040, 1, 15)).grade(new BigDecimal(grade))
+                .matriculationId(matriculationId).build();
+    }
+
+    // Cold first, with every cache emptied, then warm: the second call is what the caches save
+    private void read(int coldBudget, int warmBudget, MockHttpServletRequestBuilder request) throws Exception {
+        evictCaches();
+        write(coldBudget, request);
+        write(warmBudget, request);
+    }
+
+    private void evictCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictAllRegions();
+    }
+
+    private MvcResult write(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        SqlStatementCounter.reset();
+        MvcResult result = execute(request);
+        assertThat(SqlStatementCounter.executed())
+                .as("SQL statements of %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .hasSizeLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private void sameCount(MockHttpServletRequestBuilder small, MockHttpServletRequestBuilder large) throws Exception {
+        evictCaches();
+        SqlStatementCounter.reset();
+        String uri = execute(small).getRequest().getRequestURI();
+        List<String> smallCold = SqlStatementCounter.executed();
+        List<String> smallWarm = statements(small);
+        evictCaches();
+        List<String> largeCold = statements(large);
+        List<String> largeWarm = statements(large);
+        assertThat(largeCold).as("cold SQL statements of %s growing with the result size", uri).hasSameSizeAs(smallCold);
+        assertThat(largeWarm).as("warm SQL statements of %s growing with the result size", uri).hasSameSizeAs(smallWarm);
+    }
+
+    private List<String> statements(MockHttpServletRequestBuilder request) throws Exception {
+        SqlStatementCounter.reset();
+        execute(request);
+        return SqlStatementCounter.executed();
+    }
+
+    // Streaming exports finish on an async dispatch; HAL so link building is part of every read
+    private MvcResult execute(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request.accept(MediaTypes.HAL_JSON, MediaType.ALL)).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        assertThat(result.getResponse().getStatus())
+                .as("%s %s: %s", result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                        result.getResponse().getContentAsString())
+                .isBetween(200, 299);
+        return result;
+    }
+
+    private Long id(MvcResult result, String field) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get(field).asLong();
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
@@ -0,0 +1,96 @@
+package com.lopezcampos.controller;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the DataSource and records every statement execution, on any thread. A JDBC batch counts once.
+ * Id allocation (pooled sequences, one call per 50 inserts) is left out so budgets don't depend on what
+ * other tests inserted before.
+ */
+class SqlStatementCounter implements BeanPostProcessor {
+
+    private static final List<String> EXECUTED = Collections.synchronizedList(new ArrayList<>());
+
+    static void reset() {
+        EXECUTED.clear();
+    }
+
+    static List<String> executed() {
+        synchronized (EXECUTED) {
+            return List.copyOf(EXECUTED);
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return proxy(DataSource.class, dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? connection(connection) : result;
+        });
+    }
+
+    private static Connection connection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement(sql, ...) / prepareCall(sql, ...); a plain Statement gets its SQL on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return statement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    // PreparedStatement and CallableStatement extend Statement; keep the most specific interface
+    private static Statement statement(Statement statement, String preparedSql) {
+        Class<?>[] interfaces = {statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class};
+        return (Statement) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                        record(sql);
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static void record(String sql) {
+        String text = sql == null ? "<batch>" : sql;
+        if (!text.toLowerCase(Locale.ROOT).contains("_seq")) {
+            EXECUTED.add(text);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.lopezcampos.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentImportControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentServiceImpl studentService;
+
+    @Test
+    void importsValidCsvRowsAndReportsTheRest() throws Exception {
+        studentService.create(StudentRequestDto.builder()
+                .name("Existing").surname("Student").dni("IMP-0").email("imp0@students.test").build());
+
+        StringBuilder csv = new StringBuilder("name,surname,dni,email,birthDate\n");
+        for (int i = 1; i <= 1_200; i++) {
+            csv.append("Student,IMP").append(i).append(",IMP-").append(i).append(",imp").append(i)
+                    .append("@students.test,2001-05-0").append(1 + i % 9).append('\n');
+        }
+        csv.append("Dup,Db,IMP-0,other@students.test,\n");          // row 1201: DNI already stored
+        csv.append("Dup,File,IMP-X,IMP7@students.test,\n");         // row 1202: email repeated in the file
+        csv.append(",NoName,IMP-Y,not-an-email,\n");                // row 1203: constraint violations
+        csv.append("Bad,Date,IMP-Z,bad@students.test,yesterday\n"); // row 1204: unreadable date
+
+        mockMvc.perform(post("/api/students/import?format=csv").contentType("text/csv").content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(1_204))
+                .andExpect(jsonPath("$.imported").value(1_200))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.errors[?(@.row == 1201)].messages[0]").value(hasItem("Duplicate DNI: IMP-0")))
+                .andExpect(jsonPath("$.errors[?(@.row == 1202)].messages[0]")
+                        .value(hasItem("Duplicate email: IMP7@students.test")))
+                .andExpect(jsonPath("$.errors[?(@.row == 1203)].messages[*]")
+                        .value(contains("email: Email should be valid", "name: Name is required")))
+                .andExpect(jsonPath("$.errors[?(@.row == 1204)].dni").value(hasItem((Object) null)));
+    }
+
+    @Test
+    void importsNdjson() throws Exception {
+        String ndjson = """
+                {"name":"Nd","surname":"One","dni":"ND-1","email":"nd1@students.test"}
+                {"name":"Nd","surname":"Two","dni":"ND-2","email":"nd2@students.test"}
+                """;
+
+        mockMvc.perform(post("/api/students/import").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.lopezcampos.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+
+// Compression is applied by the embedded server, so this goes through a real port rather than MockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "educateapp.purge.enabled=false",
+        "server.compression.enabled=true",
+        "server.compression.mime-types=application/json,application/hal+json,application/cbor,application/x-jackson-smile",
+        "server.compression.min-response-size=2KB"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WireFormatTest {
+
+    @LocalServerPort private int port;
+    @Autowired private StudentServiceImpl studentService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Long studentId;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < 40; i++) {
+            studentId = studentService.create(StudentRequestDto.builder()
+                    .name("Wire").surname("Student" + i).dni("S-WIRE" + i).email("wire" + i + "@students.test")
+                    .build()).getIdStudent();
+        }
+    }
+
+    @Test
+    void binaryFormatsAreNegotiatedAndCarryTheLinkFreePage() throws Exception {
+        HttpResponse<byte[]> cbor = get("/api/students?size=20", "application/cbor", null);
+        assertThat(cbor.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/cbor");
+        JsonNode page = new CBORMapper().readTree(cbor.body());
+        assertThat(page.get("content")).hasSize(20);
+        assertThat(page.get("content").get(0).has("_links")).isFalse();
+        assertThat(cbor.headers().firstValue(HttpHeaders.ETAG).orElseThrow()).startsWith("W/").endsWith(".cbor\"");
+
+        HttpResponse<byte[]> smile = get("/api/students/" + studentId, "application/x-jackson-smile", null);
+        assertThat(smile.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue("application/x-jackson-smile");
+        assertThat(new SmileMapper().readTree(smile.body()).get("idStudent").asLong()).isEqualTo(studentId);
+    }
+
+    @Test
+    void jsonStaysTheDefault() throws Exception {
+        HttpResponse<byte[]> any = get("/api/students/" + studentId, "*/*", null);
+        assertThat(any.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow()).contains("json");
+        assertThat(new ObjectMapper().readTree(any.body()).get("name").asText()).isEqualTo("Wire");
+    }
+
+    @Test
+    void largeCollectionsAreCompressedAndSingleResourcesAreNot() throws Exception {
+        HttpResponse<byte[]> page = get("/api/students?size=40", "application/json", "gzip");
+        assertThat(page.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.body()))) {
+            assertThat(new ObjectMapper().readTree(in).get("content")).hasSize(40);
+        }
+
+        HttpResponse<byte[]> single = get("/api/students/" + studentId, "application/json", "gzip");
+        assertThat(single.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(new ObjectMapper().readTree(single.body()).get("idStudent").asLong()).isEqualTo(studentId);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lopezcampos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// The suite runs on H2, so the MySQL statement is only ever checked here
+class AddInPlaceUpsertTest {
+
+    @Test
+    void mysqlAddsThroughTheRowAliasNotValues() {
+        assertThat(AddInPlaceUpsert.statement("course_grade_counts",
+                List.of("id_course", "academic_period", "type_evaluation", "grade"), List.of("evaluations"), true))
+                .isEqualTo("insert into course_grade_counts (id_course, academic_period, type_evaluation, grade,"
+                        + " evaluations) values (?, ?, ?, ?, ?) as delta"
+                        + " on duplicate key update evaluations = evaluations + delta.evaluations");
+
+        assertThat(AddInPlaceUpsert.statement("student_summaries", List.of("id_student", "academic_period"),
+                List.of("matriculations", "credits"), true))
+                .endsWith(" as delta on duplicate key update matriculations = matriculations + delta.matriculations,"
+                        + " credits = credits + delta.credits")
+                .doesNotContainIgnoringCase("values(");
+    }
+}
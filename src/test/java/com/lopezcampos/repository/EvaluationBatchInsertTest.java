@@ -0,0 +1,73 @@
+package com.lopezcampos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lopezcampos.model.Course;
+import com.lopezcampos.model.Evaluation;
+import com.lopezcampos.model.Matriculation;
+import com.lopezcampos.model.Student;
+import com.lopezcampos.model.Teacher;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("prod")
+class EvaluationBatchInsertTest {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired private TeacherRepository teacherRepository;
+    @Autowired private CourseRepository courseRepository;
+    @Autowired private StudentRepository studentRepository;
+    @Autowired private MatriculationRepository matriculationRepository;
+    @Autowired private EvaluationRepository evaluationRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void tenThousandEvaluationsGoOutInBatches() {
+        Teacher teacher = teacherRepository.save(Teacher.builder()
+                .name("Batch").surname("Teacher").dni("T-BATCH").email("batch@teachers.test").build());
+        Course course = courseRepository.save(Course.builder()
+                .name("Batching").code("BATCH").teacher(teacher).build());
+        Student student = studentRepository.save(Student.builder()
+                .name("Batch").surname("Student").dni("S-BATCH").email("batch@students.test").build());
+        Matriculation matriculation = matriculationRepository.save(Matriculation.builder()
+                .academicPeriod("2025-1").student(student).course(course).build());
+
+        List<Evaluation> evaluations = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            evaluations.add(Evaluation.builder()
+                    .typeEvaluation("QUIZ")
+                    .date(LocalDate.of(2025, 3, 1))
+                    .grade(BigDecimal.valueOf(i % 20))
+                    .matriculation(matriculation)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> evaluationRepository.saveAll(evaluations));
+
+        // One INSERT per batch plus one pooled sequence call per allocation block
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * ROWS / BATCH_SIZE + 2);
+        assertThat(evaluationRepository.count()).isGreaterThanOrEqualTo(ROWS);
+    }
+}
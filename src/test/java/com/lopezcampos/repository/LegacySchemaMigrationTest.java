@@ -0,0 +1,100 @@
+package com.lopezcampos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+// A database built by ddl-auto, with 60 rows per table, adopted by Flyway the way production databases are
+@SpringBootTest(properties = {
+        "educateapp.purge.enabled=false",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1.1"})
+class LegacySchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long LEGACY_ROWS = 60;
+
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private ScheduleServiceImpl scheduleService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // Runs before the context starts, so Flyway finds the populated schema and no history table
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/ddl_auto_schema.sql"));
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void baselinedDatabaseHandsOutIdsAboveTheLegacyRows() {
+        assertThat(jdbcTemplate.queryForList("select version from flyway_schema_history order by installed_rank",
+                String.class)).containsSubsequence("1.1", "2", "3", "4").doesNotContain("1");
+
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("New").surname("Teacher").dni("T-NEW").email("new@teachers.test").build()).getIdTeacher();
+        Long courseId = courseService.create(CourseRequestDto.builder()
+                .name("New course").code("NEW-1").credits(3).semester(1).teacherId(teacherId).build()).getIdCourse();
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("New").surname("Student").dni("S-NEW").email("new@students.test").build()).getIdStudent();
+        Long matriculationId = matriculationService.create(MatriculationRequestDto.builder()
+                .academicPeriod("2026-1").studentId(studentId).courseId(courseId).build()).getIdMatriculation();
+        Long evaluationId = evaluationService.create(EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").date(LocalDate.of(2026, 6, 1)).grade(new BigDecimal("8.00"))
+                .matriculationId(matriculationId).build()).getIdEvaluation();
+        Long scheduleId = scheduleService.create(ScheduleRequestDto.builder()
+                .dayOfWeek("Monday").startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(9, 0))
+                .classroom("NEW-1").courseId(courseId).build()).getIdSchedule();
+
+        assertThat(new Long[] {teacherId, courseId, studentId, matriculationId, evaluationId, scheduleId})
+                .allSatisfy(id -> assertThat(id).isGreaterThan(LEGACY_ROWS));
+    }
+
+    // ddl-auto named the foreign keys FK<hash>, so the missing parent is told by the violated column
+    @Test
+    void parentRemovedBehindTheCacheIsNotFoundWhateverTheForeignKeyIsCalled() {
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Gone").surname("Teacher").dni("T-GONE").email("gone@teachers.test").build()).getIdTeacher();
+        teacherService.getById(teacherId);
+        jdbcTemplate.update("delete from teachers where id_teacher = ?", teacherId);
+
+        assertThatThrownBy(() -> courseService.create(CourseRequestDto.builder()
+                .name("Orphan course").code("GONE-1").credits(3).semester(1).teacherId(teacherId).build()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Teacher not found");
+    }
+}
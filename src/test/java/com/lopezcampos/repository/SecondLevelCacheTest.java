@@ -0,0 +1,181 @@
+package com.lopezcampos.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lopezcampos.config.SecondLevelCacheConfig;
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.model.Course;
+import com.lopezcampos.model.Schedule;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    private static final int COURSES = 10;
+    private static final int THREADS = 4;
+    private static final int ROUNDS = 50;
+
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private ScheduleServiceImpl scheduleService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private CourseRepository courseRepository;
+    @Autowired private ScheduleRepository scheduleRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Test
+    void repeatedLoadsAreServedFromTheCache() throws Exception {
+        Long teacherId = teacherService.create(teacher("L2H")).getIdTeacher();
+        List<Long> courseIds = new ArrayList<>();
+        List<Long> scheduleIds = new ArrayList<>();
+        for (int c = 0; c < COURSES; c++) {
+            Long courseId = courseService.create(course("L2H" + c, teacherId)).getIdCourse();
+            courseIds.add(courseId);
+            scheduleIds.add(scheduleService.create(schedule("L2H" + c, courseId, 8 + c)).getIdSchedule());
+        }
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        // Every thread walks course -> teacher -> schedules -> schedule, one transaction per course
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> loads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                loads.add(pool.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (int c = 0; c < COURSES; c++) {
+                            Long courseId = courseIds.get(c);
+                            Long scheduleId = scheduleIds.get(c);
+                            transactionTemplate.executeWithoutResult(status -> {
+                                Course course = courseRepository.findById(courseId).orElseThrow();
+                                assertThat(course.getTeacher().getName()).isEqualTo("Teacher L2H");
+                                assertThat(course.getSchedules()).extracting(Schedule::getIdSchedule).containsExactly(scheduleId);
+                                assertThat(scheduleRepository.findById(scheduleId)).isPresent();
+                            });
+                        }
+                    }
+                }));
+            }
+            for (Future<?> load : loads) {
+                load.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (String region : List.of(SecondLevelCacheConfig.COURSE, SecondLevelCacheConfig.TEACHER,
+                SecondLevelCacheConfig.SCHEDULE, SecondLevelCacheConfig.COURSE_SCHEDULES)) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+            // A schedule that came in with a collection miss is already in the session when findById asks for it
+            assertThat(requests).as(region).isBetween((long) (ROUNDS - 1) * THREADS * COURSES, (long) ROUNDS * THREADS * COURSES);
+            // Misses are bounded by the first load of each row in each thread, whatever the interleaving
+            assertThat(regionStatistics.getHitCount()).as(region).isGreaterThanOrEqualTo(requests - THREADS * COURSES);
+        }
+        // The same counters reach Prometheus through the Hibernate binder
+        assertThat(cacheRequests(SecondLevelCacheConfig.COURSE, "hit")).isGreaterThan(0);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3L * THREADS * COURSES);
+    }
+
+    @Test
+    void writesInvalidateEntitiesCollectionsAndQueries() {
+        Long teacherId = teacherService.create(teacher("L2W")).getIdTeacher();
+        Long courseId = courseService.create(course("L2W", teacherId)).getIdCourse();
+        Long scheduleId = scheduleService.create(schedule("L2W", courseId, 8)).getIdSchedule();
+        assertThat(scheduleIds(courseId)).containsExactly(scheduleId);
+        assertThat(scheduleService.getById(scheduleId).getCourseName()).isEqualTo("Course L2W");
+
+        courseService.update(courseId, CourseRequestDto.builder()
+                .name("Renamed L2W").code("L2W").credits(4).semester(1).teacherId(teacherId).build(), null);
+        String name = transactionTemplate.execute(status -> courseRepository.findById(courseId).orElseThrow().getName());
+        assertThat(name).isEqualTo("Renamed L2W");
+        // The cached schedule projection joins courses, so the rename drops it
+        assertThat(scheduleService.getById(scheduleId).getCourseName()).isEqualTo("Renamed L2W");
+
+        // Schedules are saved and deleted on their own; the course's cached collection still follows
+        Long addedId = scheduleService.create(schedule("L2W", courseId, 10)).getIdSchedule();
+        assertThat(scheduleIds(courseId)).containsExactlyInAnyOrder(scheduleId, addedId);
+        scheduleService.delete(scheduleId);
+        assertThat(scheduleIds(courseId)).containsExactly(addedId);
+
+        // Grade upserts are native SQL on course_grade_counts and student_summaries: they leave the regions alone
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Cache").surname("Student").dni("S-L2W").email("l2w@students.test").build()).getIdStudent();
+        Long matriculationId = matriculationService.create(MatriculationRequestDto.builder()
+                .academicPeriod("2041-1").studentId(studentId).courseId(courseId).build()).getIdMatriculation();
+        CacheRegionStatistics courses = statistics().getDomainDataRegionStatistics(SecondLevelCacheConfig.COURSE);
+        transactionTemplate.executeWithoutResult(status -> courseRepository.findById(courseId).orElseThrow());
+        long misses = courses.getMissCount();
+        evaluationService.create(EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").date(LocalDate.of(2041, 1, 15)).grade(new BigDecimal("7.00"))
+                .matriculationId(matriculationId).build());
+        transactionTemplate.executeWithoutResult(status -> courseRepository.findById(courseId).orElseThrow());
+        assertThat(courses.getMissCount()).isEqualTo(misses);
+    }
+
+    private List<Long> scheduleIds(Long courseId) {
+        return transactionTemplate.execute(status -> courseRepository.findById(courseId).orElseThrow()
+                .getSchedules().stream().map(Schedule::getIdSchedule).toList());
+    }
+
+    private double cacheRequests(String region, String result) {
+        FunctionCounter counter = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", region, "result", result).functionCounter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static TeacherRequestDto teacher(String key) {
+        return TeacherRequestDto.builder()
+                .name("Teacher " + key).surname("Cache").dni("T-" + key).email(key.toLowerCase() + "@teachers.test").build();
+    }
+
+    private static CourseRequestDto course(String code, Long teacherId) {
+        return CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(4).semester(1).teacherId(teacherId).build();
+    }
+
+    private static ScheduleRequestDto schedule(String classroom, Long courseId, int hour) {
+        return ScheduleRequestDto.builder()
+                .dayOfWeek("TUESDAY").startTime(LocalTime.of(hour, 0)).endTime(LocalTime.of(hour + 1, 0))
+                .classroom(classroom).courseId(courseId).build();
+    }
+}
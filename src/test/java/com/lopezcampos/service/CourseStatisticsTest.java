@@ -0,0 +1,123 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.CourseStatisticsResponseDto;
+import com.lopezcampos.dto.response.GradeStatisticsDto;
+import com.lopezcampos.dto.response.HistogramBucketDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.CourseStatisticsServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CourseStatisticsTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private CourseStatisticsServiceImpl statisticsService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statisticsFollowGradeWritesAndServeRepeatsFromCache() throws Exception {
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Stat").surname("Teacher").dni("T-STAT").email("stat@teachers.test").build()).getIdTeacher();
+        Long courseId = courseService.create(CourseRequestDto.builder()
+                .name("Statistics").code("STAT").credits(3).semester(1).teacherId(teacherId).build()).getIdCourse();
+
+        Long first = enroll("STAT0", courseId, "2025-1");
+        Long second = enroll("STAT1", courseId, "2025-1");
+        for (String grade : new String[] {"10", "12", "14", "16", "18"}) {
+            evaluationService.create(evaluation(first, "EXAM", grade));
+        }
+        Long top = evaluationService.create(evaluation(second, "QUIZ", "20")).getIdEvaluation();
+        evaluationService.create(evaluation(second, "QUIZ", "5.5"));
+        evaluationService.create(evaluation(enroll("STAT2", courseId, "2025-2"), "EXAM", "8"));
+
+        // 5.5 10 12 14 16 18 20: nearest-rank percentiles are actual grades
+        GradeStatisticsDto overall = statisticsService.getStatistics(courseId, "2025-1").getOverall();
+        assertThat(overall.getCount()).isEqualTo(7);
+        assertThat(overall.getMean()).isEqualByComparingTo("13.64");
+        assertThat(overall.getMin()).isEqualByComparingTo("5.5");
+        assertThat(overall.getMax()).isEqualByComparingTo("20");
+        assertThat(overall.getStandardDeviation()).isEqualByComparingTo("4.59");
+        assertThat(overall.getPercentile25()).isEqualByComparingTo("10");
+        assertThat(overall.getMedian()).isEqualByComparingTo("14");
+        assertThat(overall.getPercentile75()).isEqualByComparingTo("18");
+        assertThat(overall.getPercentile90()).isEqualByComparingTo("20");
+        assertThat(overall.getHistogram()).extracting(HistogramBucketDto::getCount)
+                .containsExactly(0L, 0L, 0L, 0L, 0L, 1L, 0L, 0L, 0L, 0L, 1L, 0L, 1L, 0L, 1L, 0L, 1L, 0L, 1L, 1L);
+
+        mockMvc.perform(get("/api/courses/{id}/statistics", courseId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overall.count").value(8))
+                .andExpect(jsonPath("$.byType[0].typeEvaluation").value("EXAM"))
+                .andExpect(jsonPath("$.byType[0].count").value(6))
+                .andExpect(jsonPath("$.byType[1].typeEvaluation").value("QUIZ"))
+                .andExpect(jsonPath("$.byType[1].count").value(2));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        statisticsService.getStatistics(courseId, null);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        evaluationService.update(top, evaluation(second, "QUIZ", "0"), null);
+        CourseStatisticsResponseDto updated = statisticsService.getStatistics(courseId, "2025-1");
+        assertThat(updated.getOverall().getMin()).isEqualByComparingTo("0");
+        assertThat(updated.getOverall().getMax()).isEqualByComparingTo("18");
+
+        statisticsService.rebuild();
+        assertThat(statisticsService.getStatistics(courseId, "2025-1")).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(updated);
+    }
+
+    @Test
+    void unknownCourseIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/courses/{id}/statistics", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long enroll(String key, Long courseId, String period) {
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Stat").surname(key).dni("S-" + key).email(key.toLowerCase() + "@students.test")
+                .build()).getIdStudent();
+        return matriculationService.create(MatriculationRequestDto.builder()
+                .academicPeriod(period).studentId(studentId).courseId(courseId)
+                .build()).getIdMatriculation();
+    }
+
+    private static EvaluationRequestDto evaluation(Long matriculationId, String type, String grade) {
+        return EvaluationRequestDto.builder()
+                .typeEvaluation(type).grade(new BigDecimal(grade)).matriculationId(matriculationId)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lopezcampos.config.CacheConfig;
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.CourseResponseDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class EnrollmentDayCacheTest {
+
+    private static final int COURSES = 5;
+    private static final int STUDENTS = 100;
+
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private CaffeineCacheManager cacheManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void enrollmentDayHitsTheCourseCacheInsteadOfTheDatabase() {
+        Long teacherId = teacherService.create(teacher("ENR", "Ada")).getIdTeacher();
+        List<Long> courseIds = new ArrayList<>();
+        for (int c = 0; c < COURSES; c++) {
+            courseIds.add(courseService.create(course("ENR" + c, teacherId)).getIdCourse());
+        }
+        List<Long> studentIds = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) {
+            studentIds.add(studentService.create(student("ENR" + s)).getIdStudent());
+        }
+        cacheManager.getCache(CacheConfig.COURSES).clear();
+        long hitsBefore = courseCache().stats().hitCount();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        for (Long studentId : studentIds) {
+            for (Long courseId : courseIds) {
+                matriculationService.create(MatriculationRequestDto.builder()
+                        .academicPeriod("2025-1")
+                        .studentId(studentId)
+                        .courseId(courseId)
+                        .build());
+            }
+        }
+
+        int enrollments = STUDENTS * COURSES;
+        // Per enrollment: student lookup, insert and summary upsert; courses are read once each, ids come in blocks of 50
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(3L * enrollments + COURSES + enrollments / 50 + 1);
+        assertThat(courseCache().stats().hitCount() - hitsBefore).isEqualTo(enrollments - COURSES);
+    }
+
+    @Test
+    void teacherUpdateEvictsTheCoursesThatFlattenIt() {
+        Long teacherId = teacherService.create(teacher("EVI", "Grace")).getIdTeacher();
+        Long courseId = courseService.create(course("EVI", teacherId)).getIdCourse();
+        assertThat(courseService.getById(courseId).getTeacherName()).isEqualTo("Grace");
+
+        teacherService.update(teacherId, teacher("EVI", "Barbara"), null);
+
+        assertThat(teacherService.getById(teacherId).getName()).isEqualTo("Barbara");
+        assertThat(courseService.getById(courseId).getTeacherName()).isEqualTo("Barbara");
+    }
+
+    // The commit fails after the update returned, so the @CachePut must not reach the cache
+    @Test
+    void failedCommitLeavesTheCachedCourseAlone() {
+        Long teacherId = teacherService.create(teacher("ROL", "Edsger")).getIdTeacher();
+        Long courseId = courseService.create(course("ROL", teacherId)).getIdCourse();
+        assertThat(courseService.getById(courseId).getName()).isEqualTo("Course ROL");
+        CourseRequestDto renamed = course("ROL", teacherId);
+        renamed.setName("Renamed");
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            courseService.update(courseId, renamed, null);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("commit refused");
+                }
+            });
+        })).hasMessage("commit refused");
+
+        assertThat(cacheManager.getCache(CacheConfig.COURSES).get(courseId, CourseResponseDto.class).getName())
+                .isEqualTo("Course ROL");
+        assertThat(courseService.getById(courseId).getName()).isEqualTo("Course ROL");
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> courseCache() {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                cacheManager.getCache(CacheConfig.COURSES).getNativeCache();
+    }
+
+    private static TeacherRequestDto teacher(String key, String name) {
+        return TeacherRequestDto.builder()
+                .name(name).surname("Teacher").dni("T-" + key).email(key.toLowerCase() + "@teachers.test")
+                .build();
+    }
+
+    private static CourseRequestDto course(String code, Long teacherId) {
+        return CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(4).semester(1).teacherId(teacherId)
+                .build();
+    }
+
+    private static StudentRequestDto student(String key) {
+        return StudentRequestDto.builder()
+                .name("Student").surname(key).dni("S-" + key).email(key.toLowerCase() + "@students.test")
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.EvaluationResponseDto;
+import com.lopezcampos.dto.response.MatriculationResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.exception.evaluations.NegativeGradeException;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.CourseStatisticsServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.StudentSummaryServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+@SpringBootTest(properties = "educateapp.purge.enabled=false")
+@AutoConfigureMockMvc
+class PartialUpdateTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private StudentSummaryServiceImpl summaryService;
+    @Autowired private CourseStatisticsServiceImpl statisticsService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void patchKeepsWhatItLeavesOutAndTheReadModelsFollowWhatItChanges() {
+        Long teacherId = teacherService.create(teacher("PAT")).getIdTeacher();
+        Long fourCredits = courseService.create(course("PAT-4", 4, teacherId)).getIdCourse();
+        Long twoCredits = courseService.create(course("PAT-2", 2, teacherId)).getIdCourse();
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Patch").surname("Student").dni("S-PAT").email("pat@students.test").build()).getIdStudent();
+        Long matriculationId = matriculationService.create(MatriculationRequestDto.builder()
+                .academicPeriod("2043-1").studentId(studentId).courseId(fourCredits).build()).getIdMatriculation();
+        Long evaluationId = evaluationService.create(EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").date(LocalDate.of(2043, 1, 10)).grade(new BigDecimal("8.00"))
+                .matriculationId(matriculationId).build()).getIdEvaluation();
+
+        EvaluationResponseDto moved = evaluationService.patch(evaluationId,
+                EvaluationRequestDto.builder().date(LocalDate.of(2043, 1, 12)).build(), null);
+        assertThat(moved.getDate()).isEqualTo(LocalDate.of(2043, 1, 12));
+        assertThat(moved.getGrade()).isEqualByComparingTo("8.00");
+        assertThat(moved.getStudentName()).isEqualTo("Patch");
+
+        evaluationService.patch(evaluationId, EvaluationRequestDto.builder().grade(new BigDecimal("6.00")).build(), null);
+        assertThat(summaryService.getSummary(studentId).getWeightedAverage()).isEqualByComparingTo("6.00");
+
+        MatriculationResponseDto switched = matriculationService.patch(matriculationId,
+                MatriculationRequestDto.builder().courseId(twoCredits).build(), null);
+        assertThat(switched.getCourseCode()).isEqualTo("PAT-2");
+        assertThat(switched.getAcademicPeriod()).isEqualTo("2043-1");
+        assertThat(summaryService.getSummary(studentId).getCredits()).isEqualTo(2L);
+        assertThat(statisticsService.getStatistics(twoCredits, null).getOverall().getCount()).isEqualTo(1L);
+        assertThat(statisticsService.getStatistics(fourCredits, null).getOverall().getCount()).isZero();
+
+        assertThatThrownBy(() -> evaluationService.patch(evaluationId,
+                EvaluationRequestDto.builder().grade(new BigDecimal("-1")).build(), null))
+                .isInstanceOf(NegativeGradeException.class);
+    }
+
+    @Test
+    void missingFieldsAreLeftAloneButInvalidOnesAreRejected() throws Exception {
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Patch").surname("Valid").dni("S-PAV").email("pav@students.test").build()).getIdStudent();
+
+        mockMvc.perform(patch("/api/students/{id}", studentId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"phone\": \"600300400\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Patch"))
+                .andExpect(jsonPath("$.phone").value("600300400"));
+        mockMvc.perform(patch("/api/students/{id}", studentId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"not-an-email\"}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    // The teacher is still in the DTO cache, so only the foreign key notices it is gone
+    @Test
+    void parentRemovedBehindTheCacheIsNotFound() {
+        Long teacherId = teacherService.create(teacher("PAG")).getIdTeacher();
+        teacherService.getById(teacherId);
+        jdbcTemplate.update("delete from teachers where id_teacher = ?", teacherId);
+
+        assertThatThrownBy(() -> courseService.create(course("PAG-1", 3, teacherId)))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Teacher not found");
+    }
+
+    private static TeacherRequestDto teacher(String key) {
+        return TeacherRequestDto.builder()
+                .name("Patch").surname("Teacher").dni("T-" + key).email(key.toLowerCase() + "@teachers.test").build();
+    }
+
+    private static CourseRequestDto course(String code, int credits, Long teacherId) {
+        return CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(credits).semester(1).teacherId(teacherId).build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.PurgeStatusResponseDto;
+import com.lopezcampos.exception.base.NotFoundException;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.CourseStatisticsServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.PurgeServiceImpl;
+import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.StudentSummaryServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+/**
+ * Deletes only flag rows; the purge is run by hand here, with a chunk size small enough that every
+ * table takes several chunks.
+ */
+@SpringBootTest(properties = {"educateapp.purge.enabled=false", "educateapp.purge.chunk-size=2"})
+class PurgeTest {
+
+    private static final int STUDENTS = 3;
+
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private ScheduleServiceImpl scheduleService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private StudentSummaryServiceImpl summaryService;
+    @Autowired private CourseStatisticsServiceImpl statisticsService;
+    @Autowired private PurgeServiceImpl purgeService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletedTeacherIsHiddenAtOnceAndPurgedWithEverythingUnderIt() {
+        Long teacherId = teacherService.create(teacher("PRG")).getIdTeacher();
+        Long courseId = courseService.create(course("PRG-1", teacherId)).getIdCourse();
+        Long otherCourseId = courseService.create(course("PRG-2", teacherId)).getIdCourse();
+        Long scheduleId = scheduleService.create(ScheduleRequestDto.builder()
+                .dayOfWeek("THURSDAY").startTime(LocalTime.of(8, 0)).endTime(LocalTime.of(9, 0))
+                .classroom("PRG").courseId(courseId).build()).getIdSchedule();
+        List<Long> studentIds = new ArrayList<>();
+        List<Long> matriculationIds = new ArrayList<>();
+        List<Long> evaluationIds = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            studentIds.add(studentService.create(student("PRG" + i)).getIdStudent());
+            for (Long course : List.of(courseId, otherCourseId)) {
+                Long matriculationId = matriculationService.create(MatriculationRequestDto.builder()
+                        .academicPeriod("2042-1").studentId(studentIds.get(i)).courseId(course).build()).getIdMatriculation();
+                matriculationIds.add(matriculationId);
+                evaluationIds.add(evaluationService.create(evaluation(matriculationId)).getIdEvaluation());
+            }
+        }
+        double purgedBefore = purgedRows("evaluations");
+
+        teacherService.delete(teacherId);
+
+        assertThatThrownBy(() -> teacherService.getById(teacherId)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> courseService.getById(courseId)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> scheduleService.getById(scheduleId)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> matriculationService.getById(matriculationIds.get(0))).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> evaluationService.getById(evaluationIds.get(0))).isInstanceOf(NotFoundException.class);
+        assertThat(summaryService.getSummary(studentIds.get(0)).getMatriculations()).isZero();
+        assertThatThrownBy(() -> statisticsService.getStatistics(courseId, null)).isInstanceOf(NotFoundException.class);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from course_grade_counts where id_course = ?",
+                Long.class, otherCourseId)).isZero();
+        // Flagged, not gone: nothing was deleted row by row inside the request
+        assertThat(rows("evaluations", "id_evaluation", evaluationIds)).isEqualTo(evaluationIds.size());
+        assertThat(rows("matriculations", "id_matriculation", matriculationIds)).isEqualTo(matriculationIds.size());
+
+        PurgeStatusResponseDto status = purgeService.purge();
+
+        assertThat(rows("evaluations", "id_evaluation", evaluationIds)).isZero();
+        assertThat(rows("matriculations", "id_matriculation", matriculationIds)).isZero();
+        assertThat(rows("schedules", "id_schedule", List.of(scheduleId))).isZero();
+        assertThat(rows("courses", "id_course", List.of(courseId, otherCourseId))).isZero();
+        assertThat(rows("teachers", "id_teacher", List.of(teacherId))).isZero();
+        assertThat(rows("students", "id_student", studentIds)).isEqualTo(STUDENTS);
+        assertThat(status.isRunning()).isFalse();
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.getPurgedRows().get("evaluations") - purgedBefore).isGreaterThanOrEqualTo(evaluationIds.size());
+        // The unique dni and email are free again
+        assertThat(teacherService.create(teacher("PRG")).getIdTeacher()).isNotEqualTo(teacherId);
+    }
+
+    @Test
+    void deletedStudentKeepsTheCourseAndLeavesItsStatistics() {
+        Long teacherId = teacherService.create(teacher("PRS")).getIdTeacher();
+        Long courseId = courseService.create(course("PRS-1", teacherId)).getIdCourse();
+        Long leaving = studentService.create(student("PRS0")).getIdStudent();
+        Long staying = studentService.create(student("PRS1")).getIdStudent();
+        for (Long studentId : List.of(leaving, staying)) {
+            Long matriculationId = matriculationService.create(MatriculationRequestDto.builder()
+                    .academicPeriod("2042-2").studentId(studentId).courseId(courseId).build()).getIdMatriculation();
+            evaluationService.create(evaluation(matriculationId));
+        }
+        assertThat(statisticsService.getStatistics(courseId, null).getOverall().getCount()).isEqualTo(2L);
+
+        studentService.delete(leaving);
+
+        assertThatThrownBy(() -> studentService.getById(leaving)).isInstanceOf(NotFoundException.class);
+        assertThat(statisticsService.getStatistics(courseId, null).getOverall().getCount()).isEqualTo(1L);
+        // A rebuild from scratch agrees with the incremental one
+        statisticsService.rebuild(List.of(courseId));
+        assertThat(statisticsService.getStatistics(courseId, null).getOverall().getCount()).isEqualTo(1L);
+
+        purgeService.purge();
+
+        assertThat(rows("students", "id_student", List.of(leaving))).isZero();
+        assertThat(rows("students", "id_student", List.of(staying))).isOne();
+        assertThat(courseService.getById(courseId).getCode()).isEqualTo("PRS-1");
+        assertThat(summaryService.getSummary(staying).getMatriculations()).isOne();
+    }
+
+    private long rows(String table, String idColumn, List<Long> ids) {
+        String in = String.join(",", ids.stream().map(String::valueOf).toList());
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where " + idColumn + " in (" + in + ")",
+                Long.class);
+    }
+
+    private double purgedRows(String table) {
+        return purgeService.getStatus().getPurgedRows().get(table);
+    }
+
+    private static TeacherRequestDto teacher(String key) {
+        return TeacherRequestDto.builder()
+                .name("Purge").surname("Teacher").dni("T-" + key).email(key.toLowerCase() + "@teachers.test").build();
+    }
+
+    private static CourseRequestDto course(String code, Long teacherId) {
+        return CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(3).semester(1).teacherId(teacherId).build();
+    }
+
+    private static StudentRequestDto student(String key) {
+        return StudentRequestDto.builder()
+                .name("Purge").surname("Student").dni("S-" + key).email(key.toLowerCase() + "@students.test").build();
+    }
+
+    private static EvaluationRequestDto evaluation(Long matriculationId) {
+        return EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").date(LocalDate.of(2042, 1, 20)).grade(new BigDecimal("5.50"))
+                .matriculationId(matriculationId).build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.ScheduleRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.exception.schedules.InvalidScheduleTimeException;
+import com.lopezcampos.exception.schedules.ScheduleConflictException;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.ScheduleServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+import com.lopezcampos.service.schedule.ScheduleConflictIndex;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleConflictTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private ScheduleServiceImpl scheduleService;
+    @Autowired private ScheduleConflictIndex conflictIndex;
+
+    @Test
+    void clashesAreRejectedWithTheConflictingScheduleIds() throws Exception {
+        Long ada = teacher("ADA");
+        Long grace = teacher("GRACE");
+        Long algebra = course("CONF-ALG", ada);
+        Long logic = course("CONF-LOG", ada);
+        Long physics = course("CONF-PHY", grace);
+
+        Long monday = scheduleService.create(schedule(algebra, "Monday", "08:00", "10:00", "A-101")).getIdSchedule();
+
+        // Same classroom (case and spacing ignored), overlapping hour
+        mockMvc.perform(post("/api/schedules").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(schedule(physics, " MONDAY", "09:30", "11:00", "a-101 "))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SCHED_001"))
+                .andExpect(jsonPath("$.conflicts.classroom[0]").value(monday));
+
+        // Same teacher in another room
+        assertThatThrownBy(() -> scheduleService.create(schedule(logic, "Monday", "09:00", "09:30", "B-202")))
+                .isInstanceOfSatisfying(ScheduleConflictException.class,
+                        ex -> assertThat(ex.getConflicts()).containsOnlyKeys(ScheduleConflictIndex.TEACHER));
+
+        // Back to back is fine
+        Long physicsMonday = scheduleService.create(schedule(physics, "Monday", "10:00", "11:00", "A-101")).getIdSchedule();
+        Long logicMonday = scheduleService.create(schedule(logic, "Monday", "10:00", "12:00", "B-202")).getIdSchedule();
+
+        assertThatThrownBy(() -> scheduleService.create(schedule(logic, "Tuesday", "10:00", "10:00", null)))
+                .isInstanceOf(InvalidScheduleTimeException.class);
+
+        // A student can take algebra and physics, but logic overlaps physics in the same period
+        Long student = studentService.create(StudentRequestDto.builder()
+                .name("Clash").surname("Student").dni("S-CLASH").email("clash@students.test").build()).getIdStudent();
+        matriculationService.create(matriculation(student, algebra, "2025-1"));
+        matriculationService.create(matriculation(student, physics, "2025-1"));
+        assertThatThrownBy(() -> matriculationService.create(matriculation(student, logic, "2025-1")))
+                .isInstanceOfSatisfying(ScheduleConflictException.class,
+                        ex -> assertThat(ex.getConflicts().get(ScheduleConflictIndex.STUDENT)).containsExactly(physicsMonday));
+        matriculationService.create(matriculation(student, logic, "2025-2"));
+
+        // Moving the logic class clear of physics makes the enrollment possible; a reload agrees with the index
+        scheduleService.update(logicMonday, schedule(logic, "Wednesday", "10:00", "12:00", "B-202"), null);
+        conflictIndex.reload();
+        matriculationService.create(matriculation(student, logic, "2025-1"));
+    }
+
+    @Test
+    void movingAScheduleOntoAnEnrolledStudentsOtherClassIsRejected() {
+        Long algebra = course("MOVE-ALG", teacher("MOVE-A"));
+        Long physics = course("MOVE-PHY", teacher("MOVE-B"));
+        Long algebraMonday = scheduleService.create(schedule(algebra, "Monday", "08:00", "10:00", "M-101")).getIdSchedule();
+        Long physicsTuesday = scheduleService.create(schedule(physics, "Tuesday", "08:00", "10:00", "M-202")).getIdSchedule();
+
+        Long student = studentService.create(StudentRequestDto.builder()
+                .name("Move").surname("Student").dni("S-MOVE").email("move@students.test").build()).getIdStudent();
+        matriculationService.create(matriculation(student, algebra, "2026-1"));
+        matriculationService.create(matriculation(student, physics, "2026-1"));
+
+        // Free classroom, free teacher: only the student's timetable stands in the way
+        assertThatThrownBy(() -> scheduleService.update(physicsTuesday,
+                schedule(physics, "Monday", "09:00", "11:00", "M-202"), null))
+                .isInstanceOfSatisfying(ScheduleConflictException.class,
+                        ex -> assertThat(ex.getConflicts()).containsOnlyKeys(ScheduleConflictIndex.STUDENT)
+                                .containsEntry(ScheduleConflictIndex.STUDENT, Set.of(algebraMonday)));
+
+        // Shifting within its own day never clashes with itself
+        scheduleService.update(physicsTuesday, schedule(physics, "Tuesday", "09:00", "11:00", "M-202"), null);
+    }
+
+    private Long teacher(String key) {
+        return teacherService.create(TeacherRequestDto.builder()
+                .name(key).surname("Teacher").dni("T-CONF-" + key).email(key.toLowerCase() + "@conflicts.test")
+                .build()).getIdTeacher();
+    }
+
+    private Long course(String code, Long teacherId) {
+        return courseService.create(CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(3).semester(1).teacherId(teacherId)
+                .build()).getIdCourse();
+    }
+
+    private static ScheduleRequestDto schedule(Long courseId, String day, String start, String end, String classroom) {
+        return ScheduleRequestDto.builder()
+                .dayOfWeek(day).startTime(LocalTime.parse(start)).endTime(LocalTime.parse(end))
+                .classroom(classroom).courseId(courseId)
+                .build();
+    }
+
+    private static MatriculationRequestDto matriculation(Long studentId, Long courseId, String period) {
+        return MatriculationRequestDto.builder()
+                .academicPeriod(period).studentId(studentId).courseId(courseId)
+                .build();
+    }
+}
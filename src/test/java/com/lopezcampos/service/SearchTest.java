@@ -0,0 +1,93 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.SearchResultDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.SearchServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+import com.lopezcampos.service.search.SearchType;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private SearchServiceImpl searchService;
+
+    @Test
+    void searchFollowsWritesAndRanksExactMatchesFirst() throws Exception {
+        Long quintana = student("Xiomara", "Quintana", "S-XQ1", "xiomara.quintana@search.test");
+        Long quintanar = student("Xavi", "Quintanar Núñez", "S-XQ2", "xavi.q@search.test");
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Quirino").surname("Xandri").dni("T-XQ").email("quirino@search.test").specialty("Quantum optics")
+                .build()).getIdTeacher();
+        Long courseId = courseService.create(CourseRequestDto.builder()
+                .name("Quantum Xenobiology").code("QX-101").credits(3).semester(1).teacherId(teacherId)
+                .build()).getIdCourse();
+
+        // Whole word beats a longer completion; accents and case are ignored
+        assertThat(ids("quintana", null)).containsExactly(quintana, quintanar);
+        assertThat(ids("NUNEZ", null)).containsExactly(quintanar);
+        // Every token must match, in any field; the one-typo "quintana" ranks below
+        assertThat(ids("x quintanar", null)).first().isEqualTo(quintanar);
+        // Identifiers match by prefix as typed
+        assertThat(ids("xiomara.quin", null)).containsExactly(quintana);
+        assertThat(ids("qx-1", SearchType.COURSE)).containsExactly(courseId);
+        // One typo still finds the name
+        assertThat(ids("qiuntana", SearchType.STUDENT)).contains(quintana);
+        assertThat(ids("quantum", SearchType.TEACHER)).containsExactly(teacherId);
+
+        mockMvc.perform(get("/api/search").param("q", "quant xeno").param("type", "course"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].type").value("COURSE"))
+                .andExpect(jsonPath("$.results[0].id").value(courseId))
+                .andExpect(jsonPath("$.results[0].detail").value("QX-101"))
+                .andExpect(jsonPath("$.tookMicros").isNumber());
+        mockMvc.perform(get("/api/search").param("q", "x").param("type", "room"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("SEARCH_001"));
+
+        studentService.update(quintana, StudentRequestDto.builder()
+                .name("Xiomara").surname("Zubizarreta").dni("S-XQ1").email("xiomara.z@search.test").build(), null);
+        assertThat(ids("quintana", null)).containsExactly(quintanar);
+        assertThat(ids("zubizarreta", null)).containsExactly(quintana);
+
+        teacherService.delete(teacherId);
+        assertThat(ids("quantum", null)).isEmpty();
+        studentService.delete(quintanar);
+        assertThat(ids("quintanar", null)).isEmpty();
+
+        mockMvc.perform(get("/api/search/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.documents").isNumber())
+                .andExpect(jsonPath("$.estimatedBytes").isNumber());
+    }
+
+    private List<Long> ids(String query, SearchType type) {
+        return searchService.search(query, type, 10).getResults().stream().map(SearchResultDto::getId).toList();
+    }
+
+    private Long student(String name, String surname, String dni, String email) {
+        return studentService.create(StudentRequestDto.builder()
+                .name(name).surname(surname).dni(dni).email(email).build()).getIdStudent();
+    }
+}
@@ -0,0 +1,105 @@
+package com.lopezcampos.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.lopezcampos.dto.request.CourseRequestDto;
+import com.lopezcampos.dto.request.EvaluationRequestDto;
+import com.lopezcampos.dto.request.MatriculationRequestDto;
+import com.lopezcampos.dto.request.StudentRequestDto;
+import com.lopezcampos.dto.request.TeacherRequestDto;
+import com.lopezcampos.dto.response.StudentPeriodSummaryDto;
+import com.lopezcampos.dto.response.StudentSummaryResponseDto;
+import com.lopezcampos.service.impl.CourseServiceImpl;
+import com.lopezcampos.service.impl.EvaluationServiceImpl;
+import com.lopezcampos.service.impl.MatriculationServiceImpl;
+import com.lopezcampos.service.impl.StudentServiceImpl;
+import com.lopezcampos.service.impl.StudentSummaryServiceImpl;
+import com.lopezcampos.service.impl.TeacherServiceImpl;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentSummaryTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TeacherServiceImpl teacherService;
+    @Autowired private CourseServiceImpl courseService;
+    @Autowired private StudentServiceImpl studentService;
+    @Autowired private MatriculationServiceImpl matriculationService;
+    @Autowired private EvaluationServiceImpl evaluationService;
+    @Autowired private StudentSummaryServiceImpl summaryService;
+
+    @Test
+    void summaryFollowsEveryWriteAndMatchesARebuild() throws Exception {
+        Long teacherId = teacherService.create(TeacherRequestDto.builder()
+                .name("Sum").surname("Teacher").dni("T-SUM").email("sum@teachers.test").build()).getIdTeacher();
+        Long fourCredits = courseService.create(course("SUM4", 4, teacherId)).getIdCourse();
+        Long twoCredits = courseService.create(course("SUM2", 2, teacherId)).getIdCourse();
+        Long studentId = studentService.create(StudentRequestDto.builder()
+                .name("Sum").surname("Student").dni("S-SUM").email("sum@students.test").build()).getIdStudent();
+
+        Long algebra = matriculationService.create(matriculation(studentId, fourCredits, "2025-1")).getIdMatriculation();
+        Long physics = matriculationService.create(matriculation(studentId, twoCredits, "2025-1")).getIdMatriculation();
+        evaluationService.create(evaluation(algebra, "16"));
+        Long quiz = evaluationService.create(evaluation(algebra, "12")).getIdEvaluation();
+        Long lab = evaluationService.create(evaluation(physics, "10")).getIdEvaluation();
+
+        // (16*4 + 12*4 + 10*2) / (4 + 4 + 2)
+        mockMvc.perform(get("/api/students/{id}/summary", studentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matriculations").value(2))
+                .andExpect(jsonPath("$.credits").value(6))
+                .andExpect(jsonPath("$.evaluations").value(3))
+                .andExpect(jsonPath("$.weightedAverage").value(13.2))
+                .andExpect(jsonPath("$.periods[0].academicPeriod").value("2025-1"));
+
+        evaluationService.update(lab, evaluation(physics, "20"), null);
+        matriculationService.update(physics, matriculation(studentId, twoCredits, "2025-2"), null);
+        evaluationService.delete(quiz);
+
+        StudentSummaryResponseDto incremental = summaryService.getSummary(studentId);
+        assertThat(incremental.getWeightedAverage()).isEqualByComparingTo("17.33");
+        assertThat(incremental.getPeriods()).extracting(StudentPeriodSummaryDto::getAcademicPeriod)
+                .containsExactly("2025-1", "2025-2");
+        assertThat(incremental.getPeriods().get(1).getWeightedAverage()).isEqualByComparingTo("20");
+
+        summaryService.rebuild();
+        assertThat(summaryService.getSummary(studentId)).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(incremental);
+    }
+
+    @Test
+    void unknownStudentIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/students/{id}/summary", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private static CourseRequestDto course(String code, int credits, Long teacherId) {
+        return CourseRequestDto.builder()
+                .name("Course " + code).code(code).credits(credits).semester(1).teacherId(teacherId)
+                .build();
+    }
+
+    private static MatriculationRequestDto matriculation(Long studentId, Long courseId, String period) {
+        return MatriculationRequestDto.builder()
+                .academicPeriod(period).studentId(studentId).courseId(courseId)
+                .build();
+    }
+
+    private static EvaluationRequestDto evaluation(Long matriculationId, String grade) {
+        return EvaluationRequestDto.builder()
+                .typeEvaluation("EXAM").grade(new BigDecimal(grade)).matriculationId(matriculationId)
+                .build();
+    }
+}
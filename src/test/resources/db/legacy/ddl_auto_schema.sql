@@ -0,0 +1,120 @@
+-- A database as ddl-auto=update left it before Flyway: the V1 tables with IDENTITY ids and Hibernate's
+-- generated constraint names, rows inserted in the IDENTITY era, and only the sequence that was created
+-- before the switch to Flyway (teachers_seq, still at its initial value).
+
+create table teachers (
+    id_teacher bigint not null auto_increment,
+    version bigint default 0 not null,
+    name varchar(100) not null,
+    surname varchar(100) not null,
+    dni varchar(20) not null,
+    email varchar(150) not null,
+    phone varchar(20),
+    specialty varchar(100),
+    status varchar(20),
+    primary key (id_teacher),
+    constraint UKfzv2lqkymywtjjdn3m99wikye unique (dni),
+    constraint UK1iu1va8y0gwa45ff3qnaxtb26 unique (email)
+);
+
+create table students (
+    id_student bigint not null auto_increment,
+    version bigint default 0 not null,
+    name varchar(100) not null,
+    surname varchar(100) not null,
+    dni varchar(20) not null,
+    email varchar(150) not null,
+    phone varchar(20),
+    address varchar(255),
+    birth_date date,
+    enrollment_date date,
+    status varchar(20),
+    primary key (id_student),
+    constraint UKcltsim0p5hahzz57zx8n231r8 unique (dni),
+    constraint UK97kyx7mj6yz1lnkym1vyw5dad unique (email)
+);
+
+create table courses (
+    id_course bigint not null auto_increment,
+    version bigint default 0 not null,
+    name varchar(150) not null,
+    code varchar(20) not null,
+    credits integer,
+    semester integer,
+    id_teacher bigint not null,
+    primary key (id_course),
+    constraint UK81fm76b0nz37kudv73z1j5iz3 unique (code),
+    constraint FKof7rowan1ywq9loqjbc4hqv46 foreign key (id_teacher) references teachers (id_teacher)
+);
+
+create table matriculations (
+    id_matriculation bigint not null auto_increment,
+    version bigint default 0 not null,
+    academic_period varchar(20),
+    matriculation_date date,
+    matriculation_status varchar(20),
+    id_student bigint not null,
+    id_course bigint not null,
+    primary key (id_matriculation),
+    constraint FKlmt1uemna9faxyeljbquffs03 foreign key (id_student) references students (id_student),
+    constraint FK9mrdjhi73jgf5akiwdgk8sl21 foreign key (id_course) references courses (id_course)
+);
+
+create table evaluations (
+    id_evaluation bigint not null auto_increment,
+    version bigint default 0 not null,
+    type_evaluation varchar(50),
+    grade decimal(5,2),
+    date date,
+    id_matriculation bigint not null,
+    primary key (id_evaluation),
+    constraint FKmixifbv0sscuad8q53hlodpk4 foreign key (id_matriculation) references matriculations (id_matriculation)
+);
+
+create table schedules (
+    id_schedule bigint not null auto_increment,
+    version bigint default 0 not null,
+    day_of_week varchar(20) not null,
+    start_time time(6) not null,
+    end_time time(6) not null,
+    classroom varchar(50),
+    id_course bigint not null,
+    primary key (id_schedule),
+    constraint FKzslkne1w9sjnd8sm13i1m4z1d foreign key (id_course) references courses (id_course)
+);
+
+create table student_summaries (
+    id_student bigint not null,
+    academic_period varchar(20) not null,
+    matriculations bigint not null,
+    credits bigint not null,
+    evaluations bigint not null,
+    graded_evaluations bigint not null,
+    weighted_grade_sum decimal(19,2) not null,
+    grade_weight bigint not null,
+    primary key (id_student, academic_period)
+);
+
+create table course_grade_counts (
+    id_course bigint not null,
+    academic_period varchar(20) not null,
+    type_evaluation varchar(50) not null,
+    grade decimal(5,2) not null,
+    evaluations bigint not null,
+    primary key (grade, id_course, academic_period, type_evaluation)
+);
+
+create sequence teachers_seq start with 1 increment by 50;
+
+insert into teachers (id_teacher, name, surname, dni, email)
+select n, 'Legacy', 'Teacher ' || n, 'T-LEG' || n, 'legacy' || n || '@teachers.test' from system_range(1, 60) as rows_(n);
+insert into students (id_student, name, surname, dni, email)
+select n, 'Legacy', 'Student ' || n, 'S-LEG' || n, 'legacy' || n || '@students.test' from system_range(1, 60) as rows_(n);
+insert into courses (id_course, name, code, credits, semester, id_teacher)
+select n, 'Legacy ' || n, 'LEG-' || n, 3, 1, n from system_range(1, 60) as rows_(n);
+insert into matriculations (id_matriculation, academic_period, matriculation_date, matriculation_status, id_student, id_course)
+select n, '2019-1', date '2019-03-01', 'ACTIVE', n, n from system_range(1, 60) as rows_(n);
+insert into evaluations (id_evaluation, type_evaluation, grade, date, id_matriculation)
+select n, 'EXAM', 7.50, date '2019-06-01', n from system_range(1, 60) as rows_(n);
+insert into schedules (id_schedule, day_of_week, start_time, end_time, classroom, id_course)
+select n, 'Saturday', time '08:00:00', time '09:00:00', 'LEG-' || n, n from system_range(1, 60) as rows_(n);